@@ -26,8 +26,8 @@ public class StringArrayComparatorImpl implements StringArrayComparator {
             if (arr1.isEmpty()) return -1;
             if (arr2.isEmpty()) return 1;
 
-            String first1 = arr1.getArray()[0];
-            String first2 = arr2.getArray()[0];
+            String first1 = arr1.get(0);
+            String first2 = arr2.get(0);
             return first1.compareToIgnoreCase(first2);
         };
     }
@@ -39,8 +39,8 @@ public class StringArrayComparatorImpl implements StringArrayComparator {
             if (arr1.isEmpty()) return -1;
             if (arr2.isEmpty()) return 1;
 
-            String last1 = arr1.getArray()[arr1.length() - 1];
-            String last2 = arr2.getArray()[arr2.length() - 1];
+            String last1 = arr1.get(arr1.length() - 1);
+            String last2 = arr2.get(arr2.length() - 1);
             return last1.compareToIgnoreCase(last2);
         };
     }
@@ -50,7 +50,7 @@ public class StringArrayComparatorImpl implements StringArrayComparator {
         return (arr1, arr2) -> {
             int minLength = Math.min(arr1.length(), arr2.length());
             for (int i = 0; i < minLength; i++) {
-                int comparison = arr1.getArray()[i].compareToIgnoreCase(arr2.getArray()[i]);
+                int comparison = arr1.get(i).compareToIgnoreCase(arr2.get(i));
                 if (comparison != 0) {
                     return comparison;
                 }
@@ -0,0 +1,9 @@
+package com.filippovich.arrayapp.diagnostic;
+
+public record Diagnostic(int lineNumber, int column, ReasonCode reason) {
+
+    @Override
+    public String toString() {
+        return "line " + lineNumber + (column > 0 ? ", column " + column : "") + ": " + reason;
+    }
+}
@@ -0,0 +1,107 @@
+package com.filippovich.arrayapp.diagnostic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public final class DiagnosticReport {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final ReasonCode[] REASONS = ReasonCode.values();
+
+    private final int limit;
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+    private final long[] counts = new long[REASONS.length];
+    private long total;
+
+    public DiagnosticReport() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public DiagnosticReport(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+        this.limit = limit;
+    }
+
+    public synchronized void record(int lineNumber, int column, ReasonCode reason) {
+        counts[reason.ordinal()]++;
+        total++;
+        if (diagnostics.size() < limit) {
+            diagnostics.add(new Diagnostic(lineNumber, column, reason));
+        }
+    }
+
+    public void merge(DiagnosticReport other) {
+        merge(other, 0);
+    }
+
+    public void merge(DiagnosticReport other, int lineOffset) {
+        List<Diagnostic> otherDiagnostics;
+        long[] otherCounts;
+        long otherTotal;
+        synchronized (other) {
+            otherDiagnostics = new ArrayList<>(other.diagnostics);
+            otherCounts = other.counts.clone();
+            otherTotal = other.total;
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += otherCounts[i];
+            }
+            total += otherTotal;
+            for (Diagnostic diagnostic : otherDiagnostics) {
+                if (diagnostics.size() >= limit) {
+                    break;
+                }
+                diagnostics.add(lineOffset == 0 || diagnostic.lineNumber() == 0
+                        ? diagnostic
+                        : new Diagnostic(diagnostic.lineNumber() + lineOffset, diagnostic.column(),
+                                diagnostic.reason()));
+            }
+        }
+    }
+
+    public synchronized List<Diagnostic> getDiagnostics() {
+        return Collections.unmodifiableList(new ArrayList<>(diagnostics));
+    }
+
+    public synchronized long count(ReasonCode reason) {
+        return counts[reason.ordinal()];
+    }
+
+    public synchronized Map<ReasonCode, Long> countsByReason() {
+        Map<ReasonCode, Long> result = new EnumMap<>(ReasonCode.class);
+        for (ReasonCode reason : REASONS) {
+            if (counts[reason.ordinal()] > 0) {
+                result.put(reason, counts[reason.ordinal()]);
+            }
+        }
+        return result;
+    }
+
+    public synchronized long getTotal() {
+        return total;
+    }
+
+    public synchronized long getDropped() {
+        return total - diagnostics.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return total == 0;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DiagnosticReport{total=" + total + ", byReason=" + countsByReason()
+                + ", kept=" + diagnostics.size() + ", dropped=" + getDropped() + "}";
+    }
+}
@@ -0,0 +1,8 @@
+package com.filippovich.arrayapp.diagnostic;
+
+public enum ReasonCode {
+    BLANK_LINE,
+    NO_VALID_WORD,
+    INVALID_CHARACTER,
+    READ_ERROR
+}
@@ -1,39 +1,201 @@
 package com.filippovich.arrayapp.entity;
 
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+import com.filippovich.arrayapp.entity.storage.WordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.ArrayWordStorage;
+import com.filippovich.arrayapp.id.IdGenerator;
+import com.filippovich.arrayapp.id.impl.TimeOrderedIdGenerator;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class StringArray {
+public class StringArray implements Iterable<String> {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long WORD_SEPARATOR = 0x1F;
+    private static final long NULL_MARKER = 0x1E;
+    private static volatile IdGenerator idGenerator = new TimeOrderedIdGenerator();
 
     private final UUID id;
-    private final String[] array;
+    private final WordStorage storage;
+    private final StorageMode mode;
+    private volatile long fingerprint;
+    private volatile boolean fingerprintComputed;
+    private volatile boolean released;
+    private int hash;
+    private boolean hashIsZero;
 
     public StringArray(String[] array) {
-        this.id = UUID.randomUUID();
-        this.array = array != null ? array.clone() : new String[0];
+        this(array, StorageMode.ARRAY);
+    }
+
+    public StringArray(String[] array, StorageMode mode) {
+        this(mode.encode(array != null ? array : new String[0]), mode);
+    }
+
+    private StringArray(WordStorage storage, StorageMode mode) {
+        this.id = idGenerator.nextId();
+        this.storage = storage;
+        this.mode = mode;
+    }
+
+    public static Builder builder() {
+        return new Builder(Builder.DEFAULT_CAPACITY);
+    }
+
+    public static Builder builder(int capacity) {
+        return new Builder(capacity);
+    }
+
+    public Builder toBuilder() {
+        return new Builder(storage.toArray());
+    }
+
+    public static IdGenerator getIdGenerator() {
+        return idGenerator;
+    }
+
+    public static void setIdGenerator(IdGenerator generator) {
+        if (generator == null) {
+            throw new IllegalArgumentException("Id generator must not be null");
+        }
+        idGenerator = generator;
     }
 
     public UUID getId() {
         return id;
     }
 
+    public StorageMode getStorageMode() {
+        return mode;
+    }
+
     public String[] getArray() {
-        return array.clone();
+        return storage.toArray();
+    }
+
+    public String get(int index) {
+        return storage.get(index);
+    }
+
+    public int wordLength(int index) {
+        return storage.wordLength(index);
+    }
+
+    public char charAt(int index, int position) {
+        return storage.charAt(index, position);
+    }
+
+    public int compareWordsIgnoreCase(int index, int otherIndex) {
+        return storage.compareIgnoreCase(index, otherIndex);
+    }
+
+    public IntStream wordLengths() {
+        return IntStream.range(0, storage.size()).map(storage::wordLength);
+    }
+
+    public int totalCharacters() {
+        return storage.totalCharacters();
+    }
+
+    public long estimatedFootprint() {
+        return storage.estimatedFootprint();
+    }
+
+    public IntPredicate wordMatcher(String word) {
+        return storage.wordMatcher(word);
+    }
+
+    public int[] distinctWordIndexes() {
+        return storage.distinctIndexes();
+    }
+
+    public void release() {
+        released = true;
+        storage.release();
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    public long fingerprint() {
+        if (!fingerprintComputed) {
+            fingerprint = computeFingerprint();
+            fingerprintComputed = true;
+        }
+        return fingerprint;
+    }
+
+    public boolean contentEquals(StringArray other) {
+        if (this == other) return true;
+        if (other == null) return false;
+        if (storage.size() != other.storage.size() || fingerprint() != other.fingerprint()) {
+            return false;
+        }
+        return sameContent(other);
+    }
+
+    public StringArraySummary summary() {
+        return summary(StringArraySummary.getDefaultLimit());
+    }
+
+    public StringArraySummary summary(int limit) {
+        return new StringArraySummary(id, asList(), limit);
+    }
+
+    public List<String> asList() {
+        return new WordListView();
+    }
+
+    public Stream<String> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return asList().iterator();
+    }
+
+    @Override
+    public Spliterator<String> spliterator() {
+        return Spliterators.spliterator(asList(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public void forEach(Consumer<? super String> action) {
+        for (int i = 0; i < storage.size(); i++) {
+            action.accept(storage.get(i));
+        }
     }
 
     public int length() {
-        return array.length;
+        return storage.size();
     }
 
     public boolean isEmpty() {
-        return array.length == 0;
+        return storage.size() == 0;
     }
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("StringArrayImpl{id=").append(id).append(", array=[");
-        for (int i = 0; i < array.length; i++) {
+        for (int i = 0; i < storage.size(); i++) {
             if (i > 0) sb.append(", ");
-            sb.append(array[i]);
+            sb.append(storage.get(i));
         }
         sb.append("]}");
         return sb.toString();
@@ -50,12 +212,31 @@ public class StringArray {
             return false;
         }
 
-        if (array.length != that.array.length) {
+        if (storage.size() != that.storage.size() || fingerprint() != that.fingerprint()) {
             return false;
         }
-        for (int i = 0; i < array.length; i++) {
-            String thisElement = array[i];
-            String thatElement = that.array[i];
+
+        return sameContent(that);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && !hashIsZero) {
+            h = 31 * id.hashCode() + Long.hashCode(fingerprint());
+            if (h == 0) {
+                hashIsZero = true;
+            } else {
+                hash = h;
+            }
+        }
+        return h;
+    }
+
+    private boolean sameContent(StringArray that) {
+        for (int i = 0; i < storage.size(); i++) {
+            String thisElement = storage.get(i);
+            String thatElement = that.storage.get(i);
             if (thisElement == null) {
                 if (thatElement != null) {
                     return false;
@@ -64,16 +245,129 @@ public class StringArray {
                 return false;
             }
         }
-
         return true;
     }
 
-    @Override
-    public int hashCode() {
-        int result = id.hashCode();
-        for (String element : array) {
-            result = 31 * result + (element == null ? 0 : element.hashCode());
+    private long computeFingerprint() {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < storage.size(); i++) {
+            if (storage.isNull(i)) {
+                h = (h ^ NULL_MARKER) * FNV_PRIME;
+            } else {
+                int length = storage.wordLength(i);
+                for (int j = 0; j < length; j++) {
+                    h = (h ^ storage.charAt(i, j)) * FNV_PRIME;
+                }
+            }
+            h = (h ^ WORD_SEPARATOR) * FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public static final class Builder {
+        private static final int DEFAULT_CAPACITY = 16;
+
+        private String[] words;
+        private int size;
+        private boolean escaped;
+
+        private Builder(int capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+            }
+            this.words = new String[capacity];
+        }
+
+        private Builder(String[] words) {
+            this.words = words;
+            this.size = words.length;
+        }
+
+        public Builder append(String word) {
+            ensureOpen();
+            if (size == words.length) {
+                words = Arrays.copyOf(words, Math.max(DEFAULT_CAPACITY, words.length * 2));
+            }
+            words[size++] = word;
+            return this;
+        }
+
+        public Builder set(int index, String word) {
+            ensureOpen();
+            Objects.checkIndex(index, size);
+            words[index] = word;
+            return this;
+        }
+
+        public String get(int index) {
+            ensureOpen();
+            Objects.checkIndex(index, size);
+            return words[index];
+        }
+
+        public int size() {
+            ensureOpen();
+            return size;
+        }
+
+        public Builder sort(Comparator<? super String> comparator) {
+            ensureOpen();
+            Arrays.sort(words, 0, size, comparator);
+            return this;
+        }
+
+        public Builder sortInPlace(Consumer<String[]> sorter) {
+            ensureOpen();
+            escaped = true;
+            sorter.accept(trimmedWords());
+            return this;
+        }
+
+        public StringArray build() {
+            String[] owned = escaped ? trimmedWords().clone() : trimmedWords();
+            StringArray result = new StringArray(new ArrayWordStorage(owned), StorageMode.ARRAY);
+            words = null;
+            return result;
+        }
+
+        public StringArray build(StorageMode mode) {
+            if (mode == StorageMode.ARRAY) {
+                return build();
+            }
+            StringArray result = new StringArray(mode.encode(trimmedWords()), mode);
+            words = null;
+            return result;
+        }
+
+        private String[] trimmedWords() {
+            ensureOpen();
+            if (size != words.length) {
+                words = Arrays.copyOf(words, size);
+            }
+            return words;
+        }
+
+        private void ensureOpen() {
+            if (words == null) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+    }
+
+    private final class WordListView extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            return storage.get(index);
+        }
+
+        @Override
+        public int size() {
+            return storage.size();
         }
-        return result;
     }
-}
\ No newline at end of file
+}
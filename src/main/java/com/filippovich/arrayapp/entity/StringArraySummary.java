@@ -0,0 +1,78 @@
+package com.filippovich.arrayapp.entity;
+
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+public final class StringArraySummary implements StringBuilderFormattable {
+    private static final int DEFAULT_LIMIT = 10;
+    private static volatile int defaultLimit = DEFAULT_LIMIT;
+
+    private final UUID id;
+    private final List<String> words;
+    private final int limit;
+
+    StringArraySummary(UUID id, List<String> words, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Summary limit must not be negative: " + limit);
+        }
+        this.id = id;
+        this.words = words;
+        this.limit = limit;
+    }
+
+    public static StringArraySummary of(String[] words) {
+        return new StringArraySummary(null, words != null ? Arrays.asList(words) : List.of(), defaultLimit);
+    }
+
+    public static int getDefaultLimit() {
+        return defaultLimit;
+    }
+
+    public static void setDefaultLimit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Summary limit must not be negative: " + limit);
+        }
+        defaultLimit = limit;
+    }
+
+    public void appendTo(Appendable out) throws IOException {
+        out.append("StringArray{");
+        if (id != null) {
+            out.append("id=").append(id.toString()).append(", ");
+        }
+        out.append("size=").append(Integer.toString(words.size())).append(", array=[");
+
+        int shown = Math.min(limit, words.size());
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) out.append(", ");
+            out.append(words.get(i));
+        }
+        int hidden = words.size() - shown;
+        if (hidden > 0) {
+            if (shown > 0) out.append(", ");
+            out.append("... +").append(Integer.toString(hidden)).append(" more");
+        }
+        out.append("]}");
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        try {
+            appendTo(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        formatTo(sb);
+        return sb.toString();
+    }
+}
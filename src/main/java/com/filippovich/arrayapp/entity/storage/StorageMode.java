@@ -0,0 +1,43 @@
+package com.filippovich.arrayapp.entity.storage;
+
+import com.filippovich.arrayapp.entity.storage.impl.ArrayWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.ByteWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.DictionaryWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.OffHeapWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.PackedWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.WordDictionary;
+
+public enum StorageMode {
+    ARRAY {
+        @Override
+        public WordStorage encode(String[] words) {
+            return new ArrayWordStorage(words.clone());
+        }
+    },
+    PACKED {
+        @Override
+        public WordStorage encode(String[] words) {
+            return PackedWordStorage.of(words);
+        }
+    },
+    OFF_HEAP {
+        @Override
+        public WordStorage encode(String[] words) {
+            return OffHeapWordStorage.of(words);
+        }
+    },
+    DICTIONARY {
+        @Override
+        public WordStorage encode(String[] words) {
+            return DictionaryWordStorage.of(words, WordDictionary.getInstance());
+        }
+    },
+    BYTE {
+        @Override
+        public WordStorage encode(String[] words) {
+            return ByteWordStorage.canEncode(words) ? ByteWordStorage.of(words) : PackedWordStorage.of(words);
+        }
+    };
+
+    public abstract WordStorage encode(String[] words);
+}
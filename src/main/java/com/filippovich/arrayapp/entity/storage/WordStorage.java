@@ -0,0 +1,50 @@
+package com.filippovich.arrayapp.entity.storage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+public interface WordStorage {
+    int size();
+
+    String get(int index);
+
+    boolean isNull(int index);
+
+    int wordLength(int index);
+
+    char charAt(int index, int position);
+
+    default int compareIgnoreCase(int index, int otherIndex) {
+        return get(index).compareToIgnoreCase(get(otherIndex));
+    }
+
+    int totalCharacters();
+
+    String[] toArray();
+
+    long estimatedFootprint();
+
+    default IntPredicate wordMatcher(String word) {
+        if (word == null) {
+            return index -> false;
+        }
+        return index -> word.equals(get(index));
+    }
+
+    default int[] distinctIndexes() {
+        Set<String> seen = new HashSet<>();
+        int[] indexes = new int[size()];
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if (seen.add(get(i))) {
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    default void release() {
+    }
+}
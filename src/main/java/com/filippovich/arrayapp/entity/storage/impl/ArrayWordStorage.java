@@ -0,0 +1,78 @@
+package com.filippovich.arrayapp.entity.storage.impl;
+
+import com.filippovich.arrayapp.entity.storage.WordStorage;
+
+public final class ArrayWordStorage implements WordStorage {
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int STRING_HEADER_BYTES = 24;
+    private static final int REFERENCE_BYTES = 4;
+
+    private final String[] words;
+
+    public ArrayWordStorage(String[] words) {
+        this.words = words;
+    }
+
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    @Override
+    public String get(int index) {
+        return words[index];
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return words[index] == null;
+    }
+
+    @Override
+    public int wordLength(int index) {
+        return words[index].length();
+    }
+
+    @Override
+    public char charAt(int index, int position) {
+        return words[index].charAt(position);
+    }
+
+    @Override
+    public int totalCharacters() {
+        int total = 0;
+        for (String word : words) {
+            total += word.length();
+        }
+        return total;
+    }
+
+    @Override
+    public String[] toArray() {
+        return words.clone();
+    }
+
+    @Override
+    public long estimatedFootprint() {
+        long footprint = align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * words.length);
+        for (String word : words) {
+            if (word != null) {
+                footprint += STRING_HEADER_BYTES + align(ARRAY_HEADER_BYTES + encodedLength(word));
+            }
+        }
+        return footprint;
+    }
+
+    private static int encodedLength(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) > 0xFF) {
+                return word.length() * 2;
+            }
+        }
+        return word.length();
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,181 @@
+package com.filippovich.arrayapp.entity.storage.impl;
+
+import com.filippovich.arrayapp.entity.storage.WordStorage;
+
+import java.util.BitSet;
+
+public final class ByteWordStorage implements WordStorage {
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final char CYRILLIC_CAPITAL_A = 'А';
+    private static final char CYRILLIC_SMALL_YA = 'я';
+    private static final byte NOT_ENCODABLE = 0;
+    private static final byte[] ENCODE = new byte[CYRILLIC_SMALL_YA + 1];
+    private static final char[] DECODE = new char[128];
+    private static final char[] FOLD = new char[128];
+
+    static {
+        int code = 1;
+        code = addRange('A', 'Z', code);
+        code = addRange('a', 'z', code);
+        addRange(CYRILLIC_CAPITAL_A, CYRILLIC_SMALL_YA, code);
+    }
+
+    private final byte[] bytes;
+    private final int[] offsets;
+    private final BitSet nulls;
+
+    private ByteWordStorage(byte[] bytes, int[] offsets, BitSet nulls) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    public static boolean canEncode(String[] words) {
+        for (String word : words) {
+            if (word != null) {
+                for (int i = 0; i < word.length(); i++) {
+                    if (encode(word.charAt(i)) == NOT_ENCODABLE) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    public static ByteWordStorage of(String[] words) {
+        int totalLength = 0;
+        for (String word : words) {
+            if (word != null) {
+                totalLength += word.length();
+            }
+        }
+
+        byte[] bytes = new byte[totalLength];
+        int[] offsets = new int[words.length + 1];
+        BitSet nulls = null;
+        int position = 0;
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (word == null) {
+                if (nulls == null) {
+                    nulls = new BitSet(words.length);
+                }
+                nulls.set(i);
+            } else {
+                for (int j = 0; j < word.length(); j++) {
+                    byte encoded = encode(word.charAt(j));
+                    if (encoded == NOT_ENCODABLE) {
+                        throw new IllegalArgumentException("Character '" + word.charAt(j)
+                                + "' is outside the Latin/Cyrillic code page");
+                    }
+                    bytes[position++] = encoded;
+                }
+            }
+            offsets[i + 1] = position;
+        }
+        return new ByteWordStorage(bytes, offsets, nulls);
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public String get(int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        int start = offsets[index];
+        char[] word = new char[offsets[index + 1] - start];
+        for (int i = 0; i < word.length; i++) {
+            word[i] = DECODE[bytes[start + i]];
+        }
+        return new String(word);
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return nulls != null && nulls.get(index);
+    }
+
+    @Override
+    public int wordLength(int index) {
+        if (isNull(index)) {
+            throw new NullPointerException("Word at index " + index + " is null");
+        }
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public char charAt(int index, int position) {
+        int length = wordLength(index);
+        if (position < 0 || position >= length) {
+            throw new StringIndexOutOfBoundsException("Index " + position + " out of bounds for length " + length);
+        }
+        return DECODE[bytes[offsets[index] + position]];
+    }
+
+    @Override
+    public int compareIgnoreCase(int index, int otherIndex) {
+        int start = offsets[index];
+        int length = wordLength(index);
+        int otherStart = offsets[otherIndex];
+        int otherLength = wordLength(otherIndex);
+        int limit = Math.min(length, otherLength);
+        for (int i = 0; i < limit; i++) {
+            char c1 = FOLD[bytes[start + i]];
+            char c2 = FOLD[bytes[otherStart + i]];
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+        }
+        return length - otherLength;
+    }
+
+    @Override
+    public int totalCharacters() {
+        return bytes.length;
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] words = new String[size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = get(i);
+        }
+        return words;
+    }
+
+    @Override
+    public long estimatedFootprint() {
+        long footprint = align(ARRAY_HEADER_BYTES + bytes.length)
+                + align(ARRAY_HEADER_BYTES + 4L * offsets.length);
+        if (nulls != null) {
+            footprint += align(ARRAY_HEADER_BYTES + nulls.size() / 8);
+        }
+        return footprint;
+    }
+
+    private static byte encode(char c) {
+        return c < ENCODE.length ? ENCODE[c] : NOT_ENCODABLE;
+    }
+
+    private static int addRange(char from, char to, int code) {
+        for (char c = from; c <= to; c++) {
+            ENCODE[c] = (byte) code;
+            DECODE[code] = c;
+            FOLD[code] = Character.toLowerCase(Character.toUpperCase(c));
+            code++;
+        }
+        return code;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,98 @@
+package com.filippovich.arrayapp.entity.storage.impl;
+
+import com.filippovich.arrayapp.entity.storage.WordStorage;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+public final class DictionaryWordStorage implements WordStorage {
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final int[] codes;
+    private final WordDictionary dictionary;
+
+    private DictionaryWordStorage(int[] codes, WordDictionary dictionary) {
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    public static DictionaryWordStorage of(String[] words, WordDictionary dictionary) {
+        int[] codes = new int[words.length];
+        for (int i = 0; i < words.length; i++) {
+            codes[i] = dictionary.encode(words[i]);
+        }
+        return new DictionaryWordStorage(codes, dictionary);
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public String get(int index) {
+        return dictionary.decode(codes[index]);
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        return codes[index] == WordDictionary.NO_CODE;
+    }
+
+    @Override
+    public int wordLength(int index) {
+        return get(index).length();
+    }
+
+    @Override
+    public char charAt(int index, int position) {
+        return get(index).charAt(position);
+    }
+
+    @Override
+    public int totalCharacters() {
+        int total = 0;
+        for (int i = 0; i < codes.length; i++) {
+            total += wordLength(i);
+        }
+        return total;
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] words = new String[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            words[i] = get(i);
+        }
+        return words;
+    }
+
+    @Override
+    public IntPredicate wordMatcher(String word) {
+        int code = dictionary.lookup(word);
+        if (code == WordDictionary.NO_CODE) {
+            return index -> false;
+        }
+        return index -> codes[index] == code;
+    }
+
+    @Override
+    public int[] distinctIndexes() {
+        Set<Integer> seen = new HashSet<>(Math.max(16, codes.length * 2));
+        int[] indexes = new int[codes.length];
+        int count = 0;
+        for (int i = 0; i < codes.length; i++) {
+            if (seen.add(codes[i])) {
+                indexes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(indexes, count);
+    }
+
+    @Override
+    public long estimatedFootprint() {
+        return ((ARRAY_HEADER_BYTES + 4L * codes.length) + 7) & ~7L;
+    }
+}
@@ -0,0 +1,155 @@
+package com.filippovich.arrayapp.entity.storage.impl;
+
+import com.filippovich.arrayapp.entity.storage.WordStorage;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.util.BitSet;
+
+public final class OffHeapWordStorage implements WordStorage {
+    private static final int OBJECT_BYTES = 64;
+
+    private final int size;
+    private final BitSet nulls;
+    private volatile CharBuffer chars;
+    private volatile IntBuffer offsets;
+
+    private OffHeapWordStorage(int size, CharBuffer chars, IntBuffer offsets, BitSet nulls) {
+        this.size = size;
+        this.chars = chars;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    public static OffHeapWordStorage of(String[] words) {
+        int totalLength = 0;
+        for (String word : words) {
+            if (word != null) {
+                totalLength += word.length();
+            }
+        }
+
+        CharBuffer chars = ByteBuffer.allocateDirect(Character.BYTES * totalLength)
+                .order(ByteOrder.nativeOrder())
+                .asCharBuffer();
+        IntBuffer offsets = ByteBuffer.allocateDirect(Integer.BYTES * (words.length + 1))
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        BitSet nulls = null;
+
+        offsets.put(0, 0);
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (word == null) {
+                if (nulls == null) {
+                    nulls = new BitSet(words.length);
+                }
+                nulls.set(i);
+            } else {
+                chars.put(word);
+            }
+            offsets.put(i + 1, chars.position());
+        }
+        return new OffHeapWordStorage(words.length, chars, offsets, nulls);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String get(int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        IntBuffer offsets = offsets();
+        int start = offsets.get(index);
+        int end = offsets.get(index + 1);
+        char[] word = new char[end - start];
+        chars().get(start, word);
+        return new String(word);
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return nulls != null && nulls.get(index);
+    }
+
+    @Override
+    public int wordLength(int index) {
+        if (isNull(index)) {
+            throw new NullPointerException("Word at index " + index + " is null");
+        }
+        IntBuffer offsets = offsets();
+        return offsets.get(index + 1) - offsets.get(index);
+    }
+
+    @Override
+    public char charAt(int index, int position) {
+        int length = wordLength(index);
+        if (position < 0 || position >= length) {
+            throw new StringIndexOutOfBoundsException("Index " + position + " out of bounds for length " + length);
+        }
+        return chars().get(offsets().get(index) + position);
+    }
+
+    @Override
+    public int totalCharacters() {
+        return offsets().get(size);
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] words = new String[size];
+        for (int i = 0; i < size; i++) {
+            words[i] = get(i);
+        }
+        return words;
+    }
+
+    @Override
+    public long estimatedFootprint() {
+        return OBJECT_BYTES + (nulls != null ? nulls.size() / 8 : 0);
+    }
+
+    public long offHeapBytes() {
+        CharBuffer chars = this.chars;
+        IntBuffer offsets = this.offsets;
+        if (chars == null || offsets == null) {
+            return 0;
+        }
+        return (long) Character.BYTES * chars.capacity() + (long) Integer.BYTES * offsets.capacity();
+    }
+
+    public boolean isReleased() {
+        return chars == null;
+    }
+
+    @Override
+    public void release() {
+        chars = null;
+        offsets = null;
+    }
+
+    private CharBuffer chars() {
+        CharBuffer chars = this.chars;
+        if (chars == null) {
+            throw new IllegalStateException("Off-heap storage has been released");
+        }
+        return chars;
+    }
+
+    private IntBuffer offsets() {
+        IntBuffer offsets = this.offsets;
+        if (offsets == null) {
+            throw new IllegalStateException("Off-heap storage has been released");
+        }
+        return offsets;
+    }
+}
@@ -0,0 +1,113 @@
+package com.filippovich.arrayapp.entity.storage.impl;
+
+import com.filippovich.arrayapp.entity.storage.WordStorage;
+
+import java.util.BitSet;
+
+public final class PackedWordStorage implements WordStorage {
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final char[] chars;
+    private final int[] offsets;
+    private final BitSet nulls;
+
+    private PackedWordStorage(char[] chars, int[] offsets, BitSet nulls) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.nulls = nulls;
+    }
+
+    public static PackedWordStorage of(String[] words) {
+        int totalLength = 0;
+        for (String word : words) {
+            if (word != null) {
+                totalLength += word.length();
+            }
+        }
+
+        char[] chars = new char[totalLength];
+        int[] offsets = new int[words.length + 1];
+        BitSet nulls = null;
+        int position = 0;
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (word == null) {
+                if (nulls == null) {
+                    nulls = new BitSet(words.length);
+                }
+                nulls.set(i);
+            } else {
+                word.getChars(0, word.length(), chars, position);
+                position += word.length();
+            }
+            offsets[i + 1] = position;
+        }
+        return new PackedWordStorage(chars, offsets, nulls);
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public String get(int index) {
+        if (isNull(index)) {
+            return null;
+        }
+        return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+    }
+
+    @Override
+    public int wordLength(int index) {
+        if (isNull(index)) {
+            throw new NullPointerException("Word at index " + index + " is null");
+        }
+        return offsets[index + 1] - offsets[index];
+    }
+
+    @Override
+    public char charAt(int index, int position) {
+        int length = wordLength(index);
+        if (position < 0 || position >= length) {
+            throw new StringIndexOutOfBoundsException("Index " + position + " out of bounds for length " + length);
+        }
+        return chars[offsets[index] + position];
+    }
+
+    @Override
+    public int totalCharacters() {
+        return chars.length;
+    }
+
+    @Override
+    public String[] toArray() {
+        String[] words = new String[size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = get(i);
+        }
+        return words;
+    }
+
+    @Override
+    public long estimatedFootprint() {
+        long footprint = align(ARRAY_HEADER_BYTES + 2L * chars.length)
+                + align(ARRAY_HEADER_BYTES + 4L * offsets.length);
+        if (nulls != null) {
+            footprint += align(ARRAY_HEADER_BYTES + nulls.size() / 8);
+        }
+        return footprint;
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return nulls != null && nulls.get(index);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
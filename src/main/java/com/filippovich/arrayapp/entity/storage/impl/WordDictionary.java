@@ -0,0 +1,106 @@
+package com.filippovich.arrayapp.entity.storage.impl;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class WordDictionary {
+    private static final Logger logger = LogManager.getLogger(WordDictionary.class);
+    private static final WordDictionary instance = new WordDictionary();
+    private static final int INITIAL_CAPACITY = 1024;
+
+    public static final int NO_CODE = -1;
+
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile String[] words = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    private WordDictionary() {
+        logger.info("WordDictionary singleton created");
+    }
+
+    public static WordDictionary getInstance() {
+        return instance;
+    }
+
+    public int encode(String word) {
+        if (word == null) {
+            return NO_CODE;
+        }
+
+        Integer code = codes.get(word);
+        if (code != null) {
+            hits.increment();
+            return code;
+        }
+        return insert(word);
+    }
+
+    public int lookup(String word) {
+        if (word == null) {
+            return NO_CODE;
+        }
+        Integer code = codes.get(word);
+        return code != null ? code : NO_CODE;
+    }
+
+    public String decode(int code) {
+        if (code == NO_CODE) {
+            return null;
+        }
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Unknown dictionary code: " + code);
+        }
+        return words[code];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    private synchronized int insert(String word) {
+        Integer existing = codes.get(word);
+        if (existing != null) {
+            hits.increment();
+            return existing;
+        }
+
+        int code = size;
+        String[] current = words;
+        if (code == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+        }
+        current[code] = word;
+        words = current;
+        size = code + 1;
+        codes.put(word, code);
+        misses.increment();
+        logger.trace("New dictionary word '{}' encoded as {}", word, code);
+        return code;
+    }
+}
@@ -2,6 +2,6 @@ package com.filippovich.arrayapp.exception;
 
 public class InvalidArrayException extends Exception {
     public InvalidArrayException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
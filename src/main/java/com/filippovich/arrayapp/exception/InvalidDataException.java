@@ -2,6 +2,6 @@ package com.filippovich.arrayapp.exception;
 
 public class InvalidDataException extends Exception {
     public InvalidDataException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
@@ -1,30 +1,267 @@
 package com.filippovich.arrayapp.factory;
 
 import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.StringArraySummary;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
+import com.filippovich.arrayapp.parser.ValidatedWords;
 import com.filippovich.arrayapp.repository.StringArrayRepository;
 import com.filippovich.arrayapp.repository.impl.StringArrayRepositoryImpl;
-import com.filippovich.arrayapp.validation.impl.ArrayValidatorImpl;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public final class ArrayFactory {
     private static final Logger logger = LogManager.getLogger(ArrayFactory.class);
     private static final StringArrayRepository repository = StringArrayRepositoryImpl.getInstance();
+    private static final CanonicalArrayIndex canonicalIndex = CanonicalArrayIndex.getInstance();
 
     private ArrayFactory() {}
 
     public static StringArray createFromArray(String[] array) throws InvalidArrayException {
-        logger.debug("Creating StringArray from array: {}",
-                array != null ? Arrays.toString(array) : "null");
+        return createFromArray(array, StorageMode.ARRAY);
+    }
+
+    public static StringArray createFromArray(String[] array, StorageMode mode) throws InvalidArrayException {
+        return createFromArray(array, mode, LexicalProfile.DEFAULT);
+    }
+
+    public static StringArray createFromArray(String[] array, StorageMode mode, LexicalProfile profile)
+            throws InvalidArrayException {
+        logger.debug("Creating {} StringArray from array: {}", mode, StringArraySummary.of(array));
+
+        requireValid(array, profile);
+
+        StringArray result = new StringArray(array, mode);
+
+        return save(result);
+    }
+
+    public static StringArray createFromValidated(ValidatedWords words) throws InvalidArrayException {
+        return createFromValidated(words, StorageMode.ARRAY);
+    }
+
+    public static StringArray createFromValidated(ValidatedWords words, StorageMode mode)
+            throws InvalidArrayException {
+        if (words == null || words.isEmpty()) {
+            throw new InvalidArrayException("Invalid array: no validated words");
+        }
+        logger.debug("Creating {} StringArray from {} pre-validated words", mode, words.size());
+        return save(toStringArray(words, mode));
+    }
+
+    public static List<StringArray> createAllValidated(List<ValidatedWords> words) {
+        return createAllValidated(words, StorageMode.ARRAY);
+    }
+
+    public static List<StringArray> createAllValidated(List<ValidatedWords> words, StorageMode mode) {
+        if (words == null) {
+            return List.of();
+        }
+
+        List<StringArray> result = words.parallelStream()
+                .filter(ArrayFactory::hasWords)
+                .map(validated -> toStringArray(validated, mode))
+                .collect(Collectors.toList());
+
+        repository.addAll(result);
+
+        logger.info("Created and saved {} pre-validated {} StringArrays in one batch", result.size(), mode);
+        return result;
+    }
+
+    public static StringArray createFromBuilder(StringArray.Builder builder) throws InvalidArrayException {
+        return createFromBuilder(builder, StorageMode.ARRAY);
+    }
+
+    public static StringArray createFromBuilder(StringArray.Builder builder, StorageMode mode) throws InvalidArrayException {
+        return save(build(builder, mode));
+    }
 
-        ArrayValidatorImpl arrayValidatorImpl = new ArrayValidatorImpl();
-        arrayValidatorImpl.validateArray(array);
+    public static StringArray createFromBuilder(StringArray.Builder builder, ResultMode resultMode) throws InvalidArrayException {
+        switch (resultMode) {
+            case TRANSIENT:
+                return createTransientFromBuilder(builder);
+            case CANONICAL:
+                return intern(build(builder, StorageMode.ARRAY));
+            default:
+                return createFromBuilder(builder);
+        }
+    }
+
+    public static StringArray createCanonical(String[] array) throws InvalidArrayException {
+        return createCanonical(array, StorageMode.ARRAY);
+    }
 
-        StringArray result = new StringArray(array);
+    public static StringArray createCanonical(String[] array, StorageMode mode) throws InvalidArrayException {
+        return createCanonical(array, mode, LexicalProfile.DEFAULT);
+    }
+
+    public static StringArray createCanonical(String[] array, StorageMode mode, LexicalProfile profile)
+            throws InvalidArrayException {
+        logger.debug("Creating canonical {} StringArray from array: {}", mode, StringArraySummary.of(array));
+
+        requireValid(array, profile);
+
+        return intern(new StringArray(array, mode));
+    }
+
+    public static List<StringArray> createAllCanonical(List<String[]> arrays) {
+        return createAllCanonical(arrays, StorageMode.ARRAY);
+    }
+
+    public static List<StringArray> createAllCanonical(List<String[]> arrays, StorageMode mode) {
+        return createAllCanonical(arrays, mode, LexicalProfile.DEFAULT);
+    }
+
+    public static List<StringArray> createAllCanonical(List<String[]> arrays, StorageMode mode,
+                                                       LexicalProfile profile) {
+        if (arrays == null) {
+            return List.of();
+        }
+
+        List<StringArray> candidates = validRows(arrays.parallelStream(), profile)
+                .map(array -> new StringArray(array, mode))
+                .collect(Collectors.toList());
+
+        List<StringArray> result = new ArrayList<>(candidates.size());
+        List<StringArray> created = new ArrayList<>();
+        for (StringArray candidate : candidates) {
+            StringArray canonical = canonicalIndex.intern(candidate);
+            if (canonical == candidate) {
+                created.add(candidate);
+            } else {
+                candidate.release();
+            }
+            result.add(canonical);
+        }
+
+        repository.addAll(created);
+
+        logger.info("Resolved {} {} StringArrays to {} new canonical arrays in one batch",
+                result.size(), mode, created.size());
+        return result;
+    }
+
+    public static CanonicalArrayIndex getCanonicalIndex() {
+        return canonicalIndex;
+    }
+
+    public static StringArray createTransient(String[] array) throws InvalidArrayException {
+        return createTransient(array, LexicalProfile.DEFAULT);
+    }
+
+    public static StringArray createTransient(String[] array, LexicalProfile profile) throws InvalidArrayException {
+        logger.debug("Creating transient StringArray from array: {}", StringArraySummary.of(array));
+
+        requireValid(array, profile);
+
+        return new StringArray(array);
+    }
+
+    public static StringArray createTransientFromBuilder(StringArray.Builder builder) throws InvalidArrayException {
+        return build(builder, StorageMode.ARRAY);
+    }
+
+    public static void persistAll(List<StringArray> arrays) {
+        if (arrays == null || arrays.isEmpty()) {
+            return;
+        }
+        repository.addAll(arrays);
+        logger.info("Persisted {} transient StringArrays in one batch", arrays.size());
+    }
+
+    public static List<StringArray> createAll(List<String[]> arrays) {
+        return createAll(arrays, StorageMode.ARRAY);
+    }
+
+    public static List<StringArray> createAll(List<String[]> arrays, StorageMode mode) {
+        return createAll(arrays, mode, LexicalProfile.DEFAULT);
+    }
+
+    public static List<StringArray> createAll(List<String[]> arrays, StorageMode mode, LexicalProfile profile) {
+        if (arrays == null) {
+            return List.of();
+        }
+        return createAll(arrays.parallelStream(), mode, profile);
+    }
+
+    public static List<StringArray> createAll(Stream<String[]> arrays) {
+        return createAll(arrays, StorageMode.ARRAY);
+    }
+
+    public static List<StringArray> createAll(Stream<String[]> arrays, StorageMode mode) {
+        return createAll(arrays, mode, LexicalProfile.DEFAULT);
+    }
+
+    public static List<StringArray> createAll(Stream<String[]> arrays, StorageMode mode, LexicalProfile profile) {
+        List<StringArray> result = validRows(arrays.parallel(), profile)
+                .map(array -> new StringArray(array, mode))
+                .collect(Collectors.toList());
+
+        repository.addAll(result);
+
+        logger.info("Successfully created and saved {} {} StringArrays in one batch", result.size(), mode);
+        return result;
+    }
+
+    private static Stream<String[]> validRows(Stream<String[]> arrays, LexicalProfile profile) {
+        TableArrayValidatorImpl arrayValidatorImpl = new TableArrayValidatorImpl(profile);
+        return arrays.filter(array -> {
+            if (arrayValidatorImpl.validateArray(array)) {
+                return true;
+            }
+            logger.warn("Skipping invalid array in batch: {}", StringArraySummary.of(array));
+            return false;
+        });
+    }
+
+    private static boolean hasWords(ValidatedWords words) {
+        if (words != null && !words.isEmpty()) {
+            return true;
+        }
+        logger.warn("Skipping empty validated words in batch");
+        return false;
+    }
+
+    private static StringArray build(StringArray.Builder builder, StorageMode mode) {
+        StringArray result = builder.build(mode);
+        logger.debug("Creating {} StringArray from builder with {} words", mode, result.length());
+        return result;
+    }
+
+    private static void requireValid(String[] array, LexicalProfile profile) throws InvalidArrayException {
+        TableArrayValidatorImpl arrayValidatorImpl = new TableArrayValidatorImpl(profile);
+        if (!arrayValidatorImpl.validateArray(array)) {
+            throw new InvalidArrayException("Invalid array: " + StringArraySummary.of(array));
+        }
+    }
+
+    private static StringArray toStringArray(ValidatedWords words, StorageMode mode) {
+        StringArray.Builder builder = StringArray.builder(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            builder.append(words.get(i));
+        }
+        return builder.build(mode);
+    }
+
+    private static StringArray intern(StringArray candidate) {
+        StringArray canonical = canonicalIndex.intern(candidate);
+        if (canonical != candidate) {
+            candidate.release();
+            logger.debug("Reusing canonical StringArray with id: {}", canonical.getId());
+            return canonical;
+        }
+        return save(candidate);
+    }
 
+    private static StringArray save(StringArray result) {
         repository.add(result);
 
         logger.info("Successfully created and saved StringArray with id: {}", result.getId());
@@ -0,0 +1,130 @@
+package com.filippovich.arrayapp.factory;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CanonicalArrayIndex {
+    private static final Logger logger = LogManager.getLogger(CanonicalArrayIndex.class);
+    private static final CanonicalArrayIndex instance = new CanonicalArrayIndex();
+
+    private final Map<Long, List<CanonicalReference>> buckets = new ConcurrentHashMap<>();
+    private final ReferenceQueue<StringArray> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private CanonicalArrayIndex() {
+        logger.info("CanonicalArrayIndex singleton created");
+    }
+
+    public static CanonicalArrayIndex getInstance() {
+        return instance;
+    }
+
+    public StringArray intern(StringArray candidate) {
+        if (candidate == null) {
+            return null;
+        }
+        purgeCollected();
+
+        long key = candidate.fingerprint();
+        StringArray[] canonical = new StringArray[1];
+        buckets.compute(key, (k, bucket) -> {
+            List<CanonicalReference> entries = bucket != null ? bucket : new ArrayList<>(1);
+            for (CanonicalReference reference : entries) {
+                StringArray existing = reference.get();
+                if (existing != null && !existing.isReleased()
+                        && existing.getStorageMode() == candidate.getStorageMode()
+                        && existing.contentEquals(candidate)) {
+                    canonical[0] = existing;
+                    return entries;
+                }
+            }
+            entries.removeIf(CanonicalReference::isStale);
+            entries.add(new CanonicalReference(candidate, k, collected));
+            canonical[0] = candidate;
+            return entries;
+        });
+
+        if (canonical[0] == candidate) {
+            misses.increment();
+        } else {
+            hits.increment();
+            logger.trace("Content of {} already interned as {}", candidate.getId(), canonical[0].getId());
+        }
+        return canonical[0];
+    }
+
+    public int size() {
+        purgeCollected();
+        int total = 0;
+        for (Long key : buckets.keySet()) {
+            List<CanonicalReference> bucket = buckets.computeIfPresent(key, (k, entries) -> entries);
+            if (bucket != null) {
+                total += bucket.size();
+            }
+        }
+        return total;
+    }
+
+    public void clear() {
+        buckets.clear();
+        while (collected.poll() != null) {
+            // drain references that belonged to the dropped buckets
+        }
+        logger.info("CanonicalArrayIndex cleared");
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    private void purgeCollected() {
+        Reference<? extends StringArray> reference;
+        while ((reference = collected.poll()) != null) {
+            CanonicalReference stale = (CanonicalReference) reference;
+            buckets.computeIfPresent(stale.key, (k, entries) -> {
+                entries.remove(stale);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private static final class CanonicalReference extends WeakReference<StringArray> {
+        private final long key;
+
+        private CanonicalReference(StringArray array, long key, ReferenceQueue<StringArray> queue) {
+            super(array, queue);
+            this.key = key;
+        }
+
+        private boolean isStale() {
+            StringArray array = get();
+            return array == null || array.isReleased();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.filippovich.arrayapp.factory;
+
+public enum ResultMode {
+    PERSISTENT,
+    TRANSIENT,
+    CANONICAL
+}
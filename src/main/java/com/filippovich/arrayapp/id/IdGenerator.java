@@ -0,0 +1,8 @@
+package com.filippovich.arrayapp.id;
+
+import java.util.UUID;
+
+@FunctionalInterface
+public interface IdGenerator {
+    UUID nextId();
+}
@@ -0,0 +1,12 @@
+package com.filippovich.arrayapp.id.impl;
+
+import com.filippovich.arrayapp.id.IdGenerator;
+
+import java.util.UUID;
+
+public class RandomIdGenerator implements IdGenerator {
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,46 @@
+package com.filippovich.arrayapp.id.impl;
+
+import com.filippovich.arrayapp.id.IdGenerator;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SequenceIdGenerator implements IdGenerator {
+    private static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final long prefix;
+    private final int blockSize;
+    private final AtomicLong nextBlockStart = new AtomicLong();
+    private final ThreadLocal<long[]> threadBlock = ThreadLocal.withInitial(() -> new long[]{0, 0});
+
+    public SequenceIdGenerator() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    public SequenceIdGenerator(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        this.prefix = new SecureRandom().nextLong();
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public UUID nextId() {
+        return new UUID(prefix, nextSequence());
+    }
+
+    public long nextSequence() {
+        if (blockSize == 1) {
+            return nextBlockStart.getAndIncrement();
+        }
+
+        long[] block = threadBlock.get();
+        if (block[0] == block[1]) {
+            block[0] = nextBlockStart.getAndAdd(blockSize);
+            block[1] = block[0] + blockSize;
+        }
+        return block[0]++;
+    }
+}
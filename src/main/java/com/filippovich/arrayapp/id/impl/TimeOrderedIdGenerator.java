@@ -0,0 +1,33 @@
+package com.filippovich.arrayapp.id.impl;
+
+import com.filippovich.arrayapp.id.IdGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedIdGenerator implements IdGenerator {
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long TIMESTAMP_MASK = 0xFFFFFFFFFFFFL;
+
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    @Override
+    public UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long stamp = nextStamp(random);
+
+        long timestamp = (stamp >>> COUNTER_BITS) & TIMESTAMP_MASK;
+        long mostSigBits = (timestamp << 16) | VERSION_7 | (stamp & COUNTER_MASK);
+        long leastSigBits = VARIANT_RFC_4122 | (random.nextLong() & 0x3FFFFFFFFFFFFFFFL);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long nextStamp(ThreadLocalRandom random) {
+        long candidate = (System.currentTimeMillis() << COUNTER_BITS) | random.nextInt(1 << (COUNTER_BITS - 1));
+        return lastStamp.accumulateAndGet(candidate, (previous, fresh) -> fresh > previous ? fresh : previous + 1);
+    }
+}
@@ -2,8 +2,11 @@ package com.filippovich.arrayapp.observer;
 
 import com.filippovich.arrayapp.entity.StringArray;
 
+import java.util.List;
+
 public interface Observable {
     void addObserver(Observer o);
     void removeObserver(Observer o);
     void notifyObservers(StringArray array, String eventType);
+    void notifyObservers(List<StringArray> arrays, String eventType);
 }
\ No newline at end of file
@@ -2,6 +2,14 @@ package com.filippovich.arrayapp.observer;
 
 import com.filippovich.arrayapp.entity.StringArray;
 
+import java.util.List;
+
 public interface Observer {
     void handleEvent(StringArray array, String eventType);
+
+    default void handleBatchEvent(List<StringArray> arrays, String eventType) {
+        for (StringArray array : arrays) {
+            handleEvent(array, eventType);
+        }
+    }
 }
\ No newline at end of file
@@ -47,6 +47,30 @@ public class ObserverManager implements Observable {
         }
     }
 
+    @Override
+    public void notifyObservers(List<StringArray> arrays, String eventType) {
+        if (arrays == null || eventType == null) {
+            logger.warn("Cannot notify observers: arrays or eventType is null");
+            return;
+        }
+        if (arrays.isEmpty()) {
+            return;
+        }
+
+        logger.debug("Notifying {} observers about batch event: {} for {} arrays",
+                observers.size(), eventType, arrays.size());
+
+        for (Observer observer : observers) {
+            try {
+                observer.handleBatchEvent(arrays, eventType);
+                logger.trace("Successfully notified observer: {}", observer.getClass().getSimpleName());
+            } catch (Exception e) {
+                logger.error("Error notifying observer {}: {}",
+                        observer.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+    }
+
     public int getObserverCount() {
         return observers.size();
     }
@@ -2,4 +2,16 @@ package com.filippovich.arrayapp.parser;
 
 public interface ArrayParser {
     String[] parseStringToArray(String line);
-}
\ No newline at end of file
+
+    ValidatedWords parseValidated(String line);
+
+    TokenCursor tokenize(CharSequence line, TokenCursor cursor);
+
+    default TokenCursor tokenize(CharSequence line) {
+        return tokenize(line, new TokenCursor());
+    }
+
+    default int countWords(CharSequence line, TokenCursor cursor) {
+        return tokenize(line, cursor).count();
+    }
+}
@@ -0,0 +1,35 @@
+package com.filippovich.arrayapp.parser;
+
+import com.filippovich.arrayapp.validation.LexicalProfile;
+
+public abstract class LexicalArrayParser implements ArrayParser {
+    private static final int MAX_INITIAL_CAPACITY = 16;
+
+    protected final LexicalProfile profile;
+
+    protected LexicalArrayParser(LexicalProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Lexical profile must not be null");
+        }
+        this.profile = profile;
+    }
+
+    public LexicalProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public final String[] parseStringToArray(String line) {
+        if (line == null || line.isEmpty()) {
+            return new String[0];
+        }
+
+        TokenCursor cursor = new TokenCursor(Math.min((line.length() + 1) / 2, MAX_INITIAL_CAPACITY));
+        return tokenize(line, cursor).toArray();
+    }
+
+    @Override
+    public final ValidatedWords parseValidated(String line) {
+        return new ValidatedWords(parseStringToArray(line));
+    }
+}
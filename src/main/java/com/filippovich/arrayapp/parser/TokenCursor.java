@@ -0,0 +1,120 @@
+package com.filippovich.arrayapp.parser;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+public final class TokenCursor {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private CharSequence line = "";
+    private int[] bounds;
+    private int count;
+    private int position = -1;
+
+    public TokenCursor() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TokenCursor(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.bounds = new int[capacity * 2];
+    }
+
+    public void reset(CharSequence line) {
+        this.line = line != null ? line : "";
+        this.count = 0;
+        this.position = -1;
+    }
+
+    public void add(int start, int end) {
+        int offset = count * 2;
+        if (offset == bounds.length) {
+            bounds = Arrays.copyOf(bounds, Math.max(DEFAULT_CAPACITY * 2, bounds.length * 2));
+        }
+        bounds[offset] = start;
+        bounds[offset + 1] = end;
+        count++;
+    }
+
+    public void addAll(TokenCursor other) {
+        int required = (count + other.count) * 2;
+        if (required > bounds.length) {
+            bounds = Arrays.copyOf(bounds, Math.max(required, bounds.length * 2));
+        }
+        System.arraycopy(other.bounds, 0, bounds, count * 2, other.count * 2);
+        count += other.count;
+    }
+
+    public CharSequence line() {
+        return line;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int[] bounds() {
+        return bounds;
+    }
+
+    public boolean next() {
+        if (position + 1 >= count) {
+            position = count;
+            return false;
+        }
+        position++;
+        return true;
+    }
+
+    public void rewind() {
+        position = -1;
+    }
+
+    public int start() {
+        return bounds[current() * 2];
+    }
+
+    public int end() {
+        return bounds[current() * 2 + 1];
+    }
+
+    public int length() {
+        int offset = current() * 2;
+        return bounds[offset + 1] - bounds[offset];
+    }
+
+    public char charAt(int index) {
+        int offset = current() * 2;
+        return line.charAt(bounds[offset] + index);
+    }
+
+    public char firstChar() {
+        return line.charAt(start());
+    }
+
+    public char lastChar() {
+        return line.charAt(end() - 1);
+    }
+
+    public String token() {
+        int offset = current() * 2;
+        return line.subSequence(bounds[offset], bounds[offset + 1]).toString();
+    }
+
+    public String[] toArray() {
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = line.subSequence(bounds[i * 2], bounds[i * 2 + 1]).toString();
+        }
+        return words;
+    }
+
+    private int current() {
+        if (position < 0 || position >= count) {
+            throw new NoSuchElementException("Cursor is not positioned on a token");
+        }
+        return position;
+    }
+}
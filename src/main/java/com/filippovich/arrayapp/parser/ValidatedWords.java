@@ -0,0 +1,48 @@
+package com.filippovich.arrayapp.parser;
+
+import com.filippovich.arrayapp.validation.ArrayValidator;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class ValidatedWords {
+    private final String[] words;
+
+    ValidatedWords(String[] words) {
+        this.words = words;
+    }
+
+    public static Optional<ValidatedWords> check(String[] words, ArrayValidator validator) {
+        if (!validator.validateArray(words)) {
+            return Optional.empty();
+        }
+        String[] trimmed = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            trimmed[i] = words[i].trim();
+        }
+        return Optional.of(new ValidatedWords(trimmed));
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public String get(int index) {
+        Objects.checkIndex(index, words.length);
+        return words[index];
+    }
+
+    public String[] toArray() {
+        return words.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "ValidatedWords" + Arrays.toString(words);
+    }
+}
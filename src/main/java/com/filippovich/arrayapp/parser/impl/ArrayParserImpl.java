@@ -1,30 +1,62 @@
 package com.filippovich.arrayapp.parser.impl;
 
-import com.filippovich.arrayapp.parser.ArrayParser;
-import com.filippovich.arrayapp.validation.impl.ArrayValidatorImpl;
+import com.filippovich.arrayapp.parser.LexicalArrayParser;
+import com.filippovich.arrayapp.parser.TokenCursor;
+import com.filippovich.arrayapp.validation.LexicalProfile;
 
-import java.util.ArrayList;
-import java.util.List;
+public class ArrayParserImpl extends LexicalArrayParser {
+    private static final int TOKEN_EMPTY = 0;
+    private static final int TOKEN_WORD = 1;
+    private static final int TOKEN_TRAILING = 2;
+    private static final int TOKEN_INVALID = 3;
 
-public class ArrayParserImpl implements ArrayParser {
+    public ArrayParserImpl() {
+        this(LexicalProfile.DEFAULT);
+    }
+
+    public ArrayParserImpl(LexicalProfile profile) {
+        super(profile);
+    }
 
     @Override
-    public String[] parseStringToArray(String line) {
-        if (line == null || line.isBlank()) {
-            return new String[0];
+    public TokenCursor tokenize(CharSequence line, TokenCursor cursor) {
+        cursor.reset(line);
+        if (line == null) {
+            return cursor;
         }
+        tokenizeRange(line, 0, line.length(), cursor);
+        return cursor;
+    }
 
-        String[] parts = line.split(ArrayValidatorImpl.DELIMITER_REGEX);
-        List<String> words = new ArrayList<>();
-
-        for (String part : parts) {
-            String trimmedPart = part.trim();
-            ArrayValidatorImpl arrayValidatorImpl = new ArrayValidatorImpl();
-            if (!trimmedPart.isEmpty() &&  arrayValidatorImpl.isValidWordString(trimmedPart)) {
-                words.add(trimmedPart);
+    protected void tokenizeRange(CharSequence line, int from, int to, TokenCursor cursor) {
+        int state = TOKEN_EMPTY;
+        int wordStart = 0;
+        int wordEnd = 0;
+        for (int i = from; i < to; i++) {
+            char c = line.charAt(i);
+            if (profile.isLetter(c)) {
+                if (state == TOKEN_EMPTY) {
+                    state = TOKEN_WORD;
+                    wordStart = i;
+                } else if (state == TOKEN_TRAILING) {
+                    state = TOKEN_INVALID;
+                }
+                wordEnd = i + 1;
+            } else if (profile.isDelimiter(c)) {
+                if (state == TOKEN_WORD || state == TOKEN_TRAILING) {
+                    cursor.add(wordStart, wordEnd);
+                }
+                state = TOKEN_EMPTY;
+            } else if (c <= ' ') {
+                if (state == TOKEN_WORD) {
+                    state = TOKEN_TRAILING;
+                }
+            } else {
+                state = TOKEN_INVALID;
             }
         }
-
-        return words.toArray(new String[0]);
+        if (state == TOKEN_WORD || state == TOKEN_TRAILING) {
+            cursor.add(wordStart, wordEnd);
+        }
     }
-}
\ No newline at end of file
+}
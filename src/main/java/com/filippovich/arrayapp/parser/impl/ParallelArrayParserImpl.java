@@ -0,0 +1,111 @@
+package com.filippovich.arrayapp.parser.impl;
+
+import com.filippovich.arrayapp.parser.TokenCursor;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+public class ParallelArrayParserImpl extends ArrayParserImpl {
+    private static final Logger logger = LogManager.getLogger(ParallelArrayParserImpl.class);
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final int parallelThreshold;
+    private final ForkJoinPool pool;
+
+    public ParallelArrayParserImpl() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    public ParallelArrayParserImpl(int parallelThreshold) {
+        this(parallelThreshold, ForkJoinPool.commonPool());
+    }
+
+    public ParallelArrayParserImpl(int parallelThreshold, ForkJoinPool pool) {
+        this(parallelThreshold, pool, LexicalProfile.DEFAULT);
+    }
+
+    public ParallelArrayParserImpl(int parallelThreshold, ForkJoinPool pool, LexicalProfile profile) {
+        super(profile);
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + parallelThreshold);
+        }
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        this.parallelThreshold = parallelThreshold;
+        this.pool = pool;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    @Override
+    public TokenCursor tokenize(CharSequence line, TokenCursor cursor) {
+        if (line == null || line.length() < parallelThreshold) {
+            return super.tokenize(line, cursor);
+        }
+
+        int[] cuts = chunkBoundaries(line);
+        if (cuts.length <= 2) {
+            return super.tokenize(line, cursor);
+        }
+
+        List<Callable<TokenCursor>> chunks = new ArrayList<>(cuts.length - 1);
+        for (int i = 0; i + 1 < cuts.length; i++) {
+            int from = cuts[i];
+            int to = cuts[i + 1];
+            chunks.add(() -> {
+                TokenCursor partial = new TokenCursor();
+                partial.reset(line);
+                tokenizeRange(line, from, to, partial);
+                return partial;
+            });
+        }
+        logger.debug("Parsing line of {} chars in {} parallel chunks", line.length(), chunks.size());
+
+        cursor.reset(line);
+        try {
+            for (Future<TokenCursor> partial : pool.invokeAll(chunks)) {
+                cursor.addAll(partial.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel parsing was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parallel parsing failed", e.getCause());
+        }
+        return cursor;
+    }
+
+    private int[] chunkBoundaries(CharSequence line) {
+        int length = line.length();
+        int workers = Math.max(1, pool.getParallelism());
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, length / (workers * CHUNKS_PER_WORKER));
+
+        List<Integer> cuts = new ArrayList<>();
+        cuts.add(0);
+        int position = chunkSize;
+        while (position < length) {
+            while (position < length && !profile.isDelimiter(line.charAt(position))) {
+                position++;
+            }
+            if (position >= length) {
+                break;
+            }
+            cuts.add(position + 1);
+            position += 1 + chunkSize;
+        }
+        cuts.add(length);
+        return cuts.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -3,7 +3,10 @@ package com.filippovich.arrayapp.reader;
 import com.filippovich.arrayapp.exception.FileReadException;
 import com.filippovich.arrayapp.exception.InvalidDataException;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface ArrayFileReader {
 
@@ -11,4 +14,43 @@ public interface ArrayFileReader {
 
     void printFileStatistics();
 
-}
\ No newline at end of file
+    /**
+     * Streams the valid lines of the file. This default materializes {@link #readValidLinesFromFile()}
+     * first; readers that can read incrementally override it, while readers that keep every line in
+     * memory anyway, such as the tail reader, rely on it.
+     */
+    default Stream<String> streamValidLines() throws FileReadException {
+        try {
+            return readValidLinesFromFile().stream();
+        } catch (InvalidDataException e) {
+            throw new FileReadException(e.getMessage(), e);
+        }
+    }
+
+    default LineIterator iterateValidLines() throws FileReadException {
+        Stream<String> lines = streamValidLines();
+        Iterator<String> iterator = lines.iterator();
+        return new LineIterator() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                lines.close();
+            }
+        };
+    }
+
+    default void forEachValidLine(Consumer<? super String> action) throws FileReadException {
+        try (Stream<String> lines = streamValidLines()) {
+            lines.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.filippovich.arrayapp.reader;
+
+import java.util.Iterator;
+
+public interface LineIterator extends Iterator<String>, AutoCloseable {
+
+    @Override
+    void close();
+}
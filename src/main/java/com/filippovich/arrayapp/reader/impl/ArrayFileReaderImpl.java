@@ -1,30 +1,87 @@
 package com.filippovich.arrayapp.reader.impl;
 
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
 import com.filippovich.arrayapp.reader.ArrayFileReader;
-import com.filippovich.arrayapp.validation.impl.ArrayValidatorImpl;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
 import com.filippovich.arrayapp.exception.FileReadException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
 
 public class ArrayFileReaderImpl implements ArrayFileReader {
     private static final Logger logger = LogManager.getLogger(ArrayFileReaderImpl.class);
     private static final String DEFAULT_FILE_PATH = "data/words.txt";
+    private static final int DEFAULT_DIAGNOSTIC_LIMIT = 100;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int GZIP_MAGIC_FIRST = 0x1f;
+    private static final int GZIP_MAGIC_SECOND = 0x8b;
     private final String filePath;
+    private final int diagnosticLimit;
+    private final Charset charset;
+    private final LexicalProfile profile;
     private List<String> cachedLines;
+    private DiagnosticReport lastReport;
 
     public ArrayFileReaderImpl() {
         this(DEFAULT_FILE_PATH);
     }
 
     public ArrayFileReaderImpl(String filePath) {
+        this(filePath, DEFAULT_DIAGNOSTIC_LIMIT);
+    }
+
+    public ArrayFileReaderImpl(String filePath, Charset charset) {
+        this(filePath, DEFAULT_DIAGNOSTIC_LIMIT, charset);
+    }
+
+    public ArrayFileReaderImpl(String filePath, Charset charset, LexicalProfile profile) {
+        this(filePath, DEFAULT_DIAGNOSTIC_LIMIT, charset, profile);
+    }
+
+    public ArrayFileReaderImpl(String filePath, int diagnosticLimit) {
+        this(filePath, diagnosticLimit, Charset.defaultCharset());
+    }
+
+    public ArrayFileReaderImpl(String filePath, int diagnosticLimit, Charset charset) {
+        this(filePath, diagnosticLimit, charset, LexicalProfile.DEFAULT);
+    }
+
+    public ArrayFileReaderImpl(String filePath, int diagnosticLimit, Charset charset, LexicalProfile profile) {
+        if (charset == null) {
+            throw new IllegalArgumentException("Charset must not be null");
+        }
+        if (profile == null) {
+            throw new IllegalArgumentException("Lexical profile must not be null");
+        }
         this.filePath = filePath;
+        this.diagnosticLimit = diagnosticLimit;
+        this.charset = charset;
+        this.profile = profile;
         this.cachedLines = null;
+        this.lastReport = new DiagnosticReport(diagnosticLimit);
+    }
+
+    public DiagnosticReport getLastReport() {
+        return lastReport;
     }
 
     @Override
@@ -36,16 +93,18 @@ public class ArrayFileReaderImpl implements ArrayFileReader {
 
         logger.info("Reading and validating lines from file: {}", filePath);
         List<String> validLines = new ArrayList<>();
-        ArrayValidatorImpl validator = new ArrayValidatorImpl();
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+        DiagnosticReport report = new DiagnosticReport(diagnosticLimit);
+        lastReport = report;
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+        try (BufferedReader reader = openReader()) {
             String line;
             int lineNumber = 0;
             int validLinesCount = 0;
 
             while ((line = reader.readLine()) != null) {
                 lineNumber++;
-                if (processLine(line, lineNumber, validLines, validator)) {
+                if (processLine(line, lineNumber, validLines, validator, report)) {
                     validLinesCount++;
                 }
             }
@@ -54,8 +113,12 @@ public class ArrayFileReaderImpl implements ArrayFileReader {
 
             logger.info("Successfully processed {} valid lines from {} total lines",
                     validLinesCount, lineNumber);
+            if (!report.isEmpty()) {
+                logger.info("Line diagnostics: {}", report);
+            }
 
         } catch (IOException e) {
+            report.record(0, 0, ReasonCode.READ_ERROR);
             logger.error("Error reading file: {} - {}", filePath, e.getMessage(), e);
             throw new FileReadException("File not found or cannot be read: " + filePath, e);
         }
@@ -63,24 +126,107 @@ public class ArrayFileReaderImpl implements ArrayFileReader {
         return validLines;
     }
 
-    private boolean processLine(String line, int lineNumber, List<String> validLines, ArrayValidatorImpl validator) {
+    private BufferedReader openReader() throws IOException {
+        InputStream input = new BufferedInputStream(new FileInputStream(filePath), BUFFER_SIZE);
         try {
-            if (line == null || line.isBlank()) {
-                logger.debug("Line {}: Empty line - skipped", lineNumber);
-                return false;
+            input.mark(2);
+            int first = input.read();
+            int second = input.read();
+            input.reset();
+
+            if (first == GZIP_MAGIC_FIRST && second == GZIP_MAGIC_SECOND) {
+                logger.debug("Detected gzip input: {}", filePath);
+                input = new GZIPInputStream(input, BUFFER_SIZE);
             }
+            return new BufferedReader(new InputStreamReader(input, charset), BUFFER_SIZE);
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    private boolean processLine(String line, int lineNumber, List<String> validLines,
+                                TableArrayValidatorImpl validator, DiagnosticReport report) {
+        String accepted = acceptLine(line, lineNumber, validator, report);
+        if (accepted == null) {
+            return false;
+        }
+        validLines.add(accepted);
+        return true;
+    }
 
-            logger.debug("Validating line {}: '{}'", lineNumber, line);
+    private String acceptLine(String line, int lineNumber, TableArrayValidatorImpl validator, DiagnosticReport report) {
+        if (line == null || line.isBlank()) {
+            report.record(lineNumber, 0, ReasonCode.BLANK_LINE);
+            logger.debug("Line {}: Empty line - skipped", lineNumber);
+            return null;
+        }
 
-            validator.validateLineFormat(line);
+        if (!validator.diagnoseLine(line, lineNumber, report)) {
+            logger.debug("Line {}: Format diagnostic recorded", lineNumber);
+        }
+        return line.trim();
+    }
 
-            validLines.add(line.trim());
-            logger.debug("Line {}: Validation successful", lineNumber);
-            return true;
-        } catch (Exception e) {
-            logger.error("Line {}: Unexpected validation error", lineNumber, e);
-            return false;
+    @Override
+    public Stream<String> streamValidLines() throws FileReadException {
+        if (cachedLines != null) {
+            logger.debug("Streaming cached lines");
+            return new ArrayList<>(cachedLines).stream();
+        }
+
+        BufferedReader reader;
+        try {
+            reader = openReader();
+        } catch (IOException e) {
+            logger.error("Error opening file: {} - {}", filePath, e.getMessage(), e);
+            throw new FileReadException("File not found or cannot be read: " + filePath, e);
         }
+
+        logger.info("Streaming and validating lines from file: {}", filePath);
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+        DiagnosticReport report = new DiagnosticReport(diagnosticLimit);
+        lastReport = report;
+
+        Iterator<String> iterator = new Iterator<>() {
+            private int lineNumber;
+            private String nextLine;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    String line;
+                    while (nextLine == null && (line = reader.readLine()) != null) {
+                        nextLine = acceptLine(line, ++lineNumber, validator, report);
+                    }
+                    return nextLine != null;
+                } catch (IOException e) {
+                    report.record(lineNumber, 0, ReasonCode.READ_ERROR);
+                    throw new UncheckedIOException("Error reading file: " + filePath, e);
+                }
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String line = nextLine;
+                nextLine = null;
+                return line;
+            }
+        };
+
+        Spliterator<String> spliterator =
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing file: " + filePath, e);
+                    }
+                });
     }
 
     @Override
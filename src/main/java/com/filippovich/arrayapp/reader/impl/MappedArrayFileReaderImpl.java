@@ -0,0 +1,249 @@
+package com.filippovich.arrayapp.reader.impl;
+
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
+import com.filippovich.arrayapp.exception.FileReadException;
+import com.filippovich.arrayapp.reader.ArrayFileReader;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class MappedArrayFileReaderImpl implements ArrayFileReader {
+    private static final Logger logger = LogManager.getLogger(MappedArrayFileReaderImpl.class);
+    private static final String DEFAULT_FILE_PATH = "data/words.txt";
+    private static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+    private static final int DEFAULT_DIAGNOSTIC_LIMIT = 100;
+
+    private final String filePath;
+    private final int windowSize;
+    private final int diagnosticLimit;
+    private final Charset charset;
+    private final LexicalProfile profile;
+    private List<String> cachedLines;
+    private DiagnosticReport lastReport;
+
+    public MappedArrayFileReaderImpl() {
+        this(DEFAULT_FILE_PATH);
+    }
+
+    public MappedArrayFileReaderImpl(String filePath) {
+        this(filePath, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedArrayFileReaderImpl(String filePath, Charset charset) {
+        this(filePath, DEFAULT_WINDOW_SIZE, DEFAULT_DIAGNOSTIC_LIMIT, charset);
+    }
+
+    public MappedArrayFileReaderImpl(String filePath, Charset charset, LexicalProfile profile) {
+        this(filePath, DEFAULT_WINDOW_SIZE, DEFAULT_DIAGNOSTIC_LIMIT, charset, profile);
+    }
+
+    public MappedArrayFileReaderImpl(String filePath, int windowSize) {
+        this(filePath, windowSize, DEFAULT_DIAGNOSTIC_LIMIT);
+    }
+
+    public MappedArrayFileReaderImpl(String filePath, int windowSize, int diagnosticLimit) {
+        this(filePath, windowSize, diagnosticLimit, Charset.defaultCharset());
+    }
+
+    public MappedArrayFileReaderImpl(String filePath, int windowSize, int diagnosticLimit, Charset charset) {
+        this(filePath, windowSize, diagnosticLimit, charset, LexicalProfile.DEFAULT);
+    }
+
+    public MappedArrayFileReaderImpl(String filePath, int windowSize, int diagnosticLimit, Charset charset,
+                                     LexicalProfile profile) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        if (profile == null) {
+            throw new IllegalArgumentException("Lexical profile must not be null");
+        }
+        this.filePath = filePath;
+        this.windowSize = windowSize;
+        this.diagnosticLimit = diagnosticLimit;
+        this.charset = MappedLineScanner.requireLineCompatible(charset);
+        this.profile = profile;
+        this.cachedLines = null;
+        this.lastReport = new DiagnosticReport(diagnosticLimit);
+    }
+
+    public DiagnosticReport getLastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public List<String> readValidLinesFromFile() throws FileReadException {
+        if (cachedLines != null) {
+            logger.debug("Returning cached lines");
+            return new ArrayList<>(cachedLines);
+        }
+
+        logger.info("Reading and validating mapped lines from file: {}", filePath);
+        List<String> validLines = new ArrayList<>();
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+        DiagnosticReport report = new DiagnosticReport(diagnosticLimit);
+        lastReport = report;
+
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            int lineCount = MappedLineScanner.scan(channel, 0, size, windowSize,
+                    (buffer, from, to, lineNumber) -> processLine(buffer, from, to, lineNumber,
+                            validLines::add, validator, report));
+
+            cachedLines = new ArrayList<>(validLines);
+
+            logger.info("Successfully processed {} valid lines from {} total lines ({} bytes mapped)",
+                    validLines.size(), lineCount, size);
+            if (!report.isEmpty()) {
+                logger.info("Line diagnostics: {}", report);
+            }
+
+        } catch (IOException e) {
+            report.record(0, 0, ReasonCode.READ_ERROR);
+            logger.error("Error mapping file: {} - {}", filePath, e.getMessage(), e);
+            throw new FileReadException("File not found or cannot be read: " + filePath, e);
+        }
+
+        return validLines;
+    }
+
+    @Override
+    public void forEachValidLine(Consumer<? super String> action) throws FileReadException {
+        if (cachedLines != null) {
+            new ArrayList<>(cachedLines).forEach(action);
+            return;
+        }
+
+        logger.info("Scanning mapped lines from file: {}", filePath);
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+        DiagnosticReport report = new DiagnosticReport(diagnosticLimit);
+        lastReport = report;
+
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            MappedLineScanner.scan(channel, 0, channel.size(), windowSize,
+                    (buffer, from, to, lineNumber) -> processLine(buffer, from, to, lineNumber,
+                            action, validator, report));
+        } catch (IOException e) {
+            report.record(0, 0, ReasonCode.READ_ERROR);
+            logger.error("Error mapping file: {} - {}", filePath, e.getMessage(), e);
+            throw new FileReadException("File not found or cannot be read: " + filePath, e);
+        }
+    }
+
+    @Override
+    public Stream<String> streamValidLines() throws FileReadException {
+        if (cachedLines != null) {
+            logger.debug("Streaming cached lines");
+            return new ArrayList<>(cachedLines).stream();
+        }
+
+        FileChannel channel;
+        MappedLineScanner.Cursor cursor;
+        try {
+            channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ);
+            cursor = new MappedLineScanner.Cursor(channel, 0, channel.size(), windowSize);
+        } catch (IOException e) {
+            logger.error("Error mapping file: {} - {}", filePath, e.getMessage(), e);
+            throw new FileReadException("File not found or cannot be read: " + filePath, e);
+        }
+
+        logger.info("Streaming mapped lines from file: {}", filePath);
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+        DiagnosticReport report = new DiagnosticReport(diagnosticLimit);
+        lastReport = report;
+
+        Iterator<String> iterator = new Iterator<>() {
+            private String nextLine;
+
+            @Override
+            public boolean hasNext() {
+                try {
+                    while (nextLine == null && cursor.next((buffer, from, to, lineNumber) -> processLine(
+                            buffer, from, to, lineNumber, line -> nextLine = line, validator, report))) {
+                        // blank lines are recorded in the report and skipped
+                    }
+                    return nextLine != null;
+                } catch (IOException e) {
+                    report.record(cursor.getLineNumber(), 0, ReasonCode.READ_ERROR);
+                    throw new UncheckedIOException("Error mapping file: " + filePath, e);
+                } catch (FileReadException e) {
+                    report.record(cursor.getLineNumber(), 0, ReasonCode.READ_ERROR);
+                    throw new UncheckedIOException(new IOException(e.getMessage(), e));
+                }
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String line = nextLine;
+                nextLine = null;
+                return line;
+            }
+        };
+
+        Spliterator<String> spliterator =
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing file: " + filePath, e);
+                    }
+                });
+    }
+
+    private void processLine(MappedByteBuffer buffer, int from, int to, int lineNumber, Consumer<? super String> action,
+                             TableArrayValidatorImpl validator, DiagnosticReport report) {
+        String line = MappedLineScanner.decode(buffer, from, to, charset);
+        if (line == null) {
+            report.record(lineNumber, 0, ReasonCode.BLANK_LINE);
+            return;
+        }
+
+        validator.diagnoseLine(line, lineNumber, report);
+        action.accept(line.trim());
+    }
+
+    @Override
+    public void printFileStatistics() {
+        try {
+            List<String> validLines = readValidLinesFromFile();
+
+            logger.info("=== FILE STATISTICS ===");
+            logger.info("Total valid lines: {}", validLines.size());
+
+            if (validLines.isEmpty()) {
+                logger.info("No valid lines found in file!");
+                return;
+            }
+
+            for (int i = 0; i < validLines.size(); i++) {
+                String line = validLines.get(i);
+                logger.info("Line {}: '{}'", i + 1, line);
+            }
+        } catch (Exception e) {
+            logger.error("Error generating statistics: {}", e.getMessage(), e);
+        }
+    }
+}
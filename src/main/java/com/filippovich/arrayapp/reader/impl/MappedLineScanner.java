@@ -0,0 +1,150 @@
+package com.filippovich.arrayapp.reader.impl;
+
+import com.filippovich.arrayapp.exception.FileReadException;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+final class MappedLineScanner {
+
+    interface LineConsumer {
+        void accept(MappedByteBuffer buffer, int from, int to, int lineNumber);
+    }
+
+    private MappedLineScanner() {}
+
+    static Charset requireLineCompatible(Charset charset) {
+        if (charset == null) {
+            throw new IllegalArgumentException("Charset must not be null");
+        }
+        byte[] terminators = "\n\r".getBytes(charset);
+        if (terminators.length != 2 || terminators[0] != '\n' || terminators[1] != '\r') {
+            throw new IllegalArgumentException("Charset must encode line terminators as single ASCII bytes: " + charset);
+        }
+        return charset;
+    }
+
+    static int scan(FileChannel channel, long start, long end, int windowSize, LineConsumer consumer)
+            throws IOException, FileReadException {
+        Cursor cursor = new Cursor(channel, start, end, windowSize);
+        while (cursor.next(consumer)) {
+            // each call hands one line to the consumer
+        }
+        return cursor.getLineNumber();
+    }
+
+    static String decode(MappedByteBuffer buffer, int from, int to, Charset charset) {
+        boolean asciiBlank = true;
+        for (int i = from; i < to && asciiBlank; i++) {
+            asciiBlank = isAsciiWhitespace(buffer.get(i));
+        }
+        if (asciiBlank) {
+            return null;
+        }
+
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        String line = new String(bytes, charset);
+        return line.isBlank() ? null : line;
+    }
+
+    private static boolean isAsciiWhitespace(byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+    }
+
+    static final class Cursor {
+        private final FileChannel channel;
+        private final long end;
+        private final int windowSize;
+        private long position;
+        private long window;
+        private MappedByteBuffer buffer;
+        private int length;
+        private boolean lastWindow;
+        private int index;
+        private int lineStart;
+        private int lineNumber;
+        private boolean skipLineFeed;
+
+        Cursor(FileChannel channel, long start, long end, int windowSize) {
+            this.channel = channel;
+            this.end = end;
+            this.windowSize = windowSize;
+            this.position = start;
+            this.window = windowSize;
+        }
+
+        int getLineNumber() {
+            return lineNumber;
+        }
+
+        boolean next(LineConsumer consumer) throws IOException, FileReadException {
+            while (true) {
+                if (buffer == null) {
+                    if (position >= end) {
+                        return false;
+                    }
+                    mapWindow();
+                }
+
+                while (index < length) {
+                    byte b = buffer.get(index);
+                    if (b != '\n' && b != '\r') {
+                        index++;
+                        continue;
+                    }
+                    int from = lineStart;
+                    int to = index;
+                    if (b == '\r') {
+                        if (index + 1 < length) {
+                            if (buffer.get(index + 1) == '\n') {
+                                index++;
+                            }
+                        } else {
+                            skipLineFeed = true;
+                        }
+                    }
+                    lineStart = ++index;
+                    consumer.accept(buffer, from, to, ++lineNumber);
+                    return true;
+                }
+
+                MappedByteBuffer current = buffer;
+                buffer = null;
+                if (lastWindow) {
+                    position = end;
+                    if (lineStart < length) {
+                        consumer.accept(current, lineStart, length, ++lineNumber);
+                        return true;
+                    }
+                    return false;
+                }
+
+                if (lineStart == 0) {
+                    if (length == Integer.MAX_VALUE) {
+                        throw new FileReadException("Line at offset " + position + " exceeds the mapping limit");
+                    }
+                    window = Math.min(window * 2, Integer.MAX_VALUE);
+                } else {
+                    window = windowSize;
+                }
+                position += lineStart;
+            }
+        }
+
+        private void mapWindow() throws IOException {
+            length = (int) Math.min(window, end - position);
+            lastWindow = position + length == end;
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+            lineStart = 0;
+            if (skipLineFeed && buffer.get(0) == '\n') {
+                lineStart = 1;
+            }
+            skipLineFeed = false;
+            index = lineStart;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.filippovich.arrayapp.reader.impl;
+
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
+import com.filippovich.arrayapp.exception.FileReadException;
+import com.filippovich.arrayapp.parser.ArrayParser;
+import com.filippovich.arrayapp.parser.LexicalArrayParser;
+import com.filippovich.arrayapp.parser.ValidatedWords;
+import com.filippovich.arrayapp.parser.impl.ArrayParserImpl;
+import com.filippovich.arrayapp.reader.ArrayFileReader;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ParallelArrayFileReaderImpl implements ArrayFileReader {
+    private static final Logger logger = LogManager.getLogger(ParallelArrayFileReaderImpl.class);
+    private static final String DEFAULT_FILE_PATH = "data/words.txt";
+    private static final int DEFAULT_MIN_CHUNK_SIZE = 1 << 20;
+    private static final int WINDOW_SIZE = 1 << 28;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int DEFAULT_DIAGNOSTIC_LIMIT = 100;
+    private static final int PROBE_SIZE = 4096;
+
+    private final String filePath;
+    private final int minChunkSize;
+    private final ForkJoinPool pool;
+    private final ArrayParser parser;
+    private final Charset charset;
+    private final LexicalProfile profile;
+    private List<String> cachedLines;
+    private List<ValidatedWords> cachedWords;
+    private DiagnosticReport lastReport;
+
+    public ParallelArrayFileReaderImpl() {
+        this(DEFAULT_FILE_PATH);
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath) {
+        this(filePath, DEFAULT_MIN_CHUNK_SIZE, ForkJoinPool.commonPool());
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath, Charset charset) {
+        this(filePath, DEFAULT_MIN_CHUNK_SIZE, ForkJoinPool.commonPool(), new ArrayParserImpl(), charset);
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath, Charset charset, LexicalProfile profile) {
+        this(filePath, DEFAULT_MIN_CHUNK_SIZE, ForkJoinPool.commonPool(), new ArrayParserImpl(profile), charset,
+                profile);
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath, int minChunkSize, ForkJoinPool pool) {
+        this(filePath, minChunkSize, pool, new ArrayParserImpl());
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath, int minChunkSize, ForkJoinPool pool, ArrayParser parser) {
+        this(filePath, minChunkSize, pool, parser, Charset.defaultCharset());
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath, int minChunkSize, ForkJoinPool pool, ArrayParser parser,
+                                       Charset charset) {
+        this(filePath, minChunkSize, pool, parser, charset, profileOf(parser));
+    }
+
+    public ParallelArrayFileReaderImpl(String filePath, int minChunkSize, ForkJoinPool pool, ArrayParser parser,
+                                       Charset charset, LexicalProfile profile) {
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("Minimum chunk size must be positive: " + minChunkSize);
+        }
+        if (pool == null || parser == null) {
+            throw new IllegalArgumentException("Pool and parser must not be null");
+        }
+        if (profile == null) {
+            throw new IllegalArgumentException("Lexical profile must not be null");
+        }
+        this.filePath = filePath;
+        this.minChunkSize = minChunkSize;
+        this.pool = pool;
+        this.parser = parser;
+        this.charset = MappedLineScanner.requireLineCompatible(charset);
+        this.profile = profile;
+        this.cachedLines = null;
+        this.lastReport = new DiagnosticReport(DEFAULT_DIAGNOSTIC_LIMIT);
+    }
+
+    public DiagnosticReport getLastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public List<String> readValidLinesFromFile() throws FileReadException {
+        if (cachedLines == null) {
+            load();
+        } else {
+            logger.debug("Returning cached lines");
+        }
+        return new ArrayList<>(cachedLines);
+    }
+
+    public List<ValidatedWords> readValidatedWordsFromFile() throws FileReadException {
+        if (cachedWords == null) {
+            load();
+        }
+        return new ArrayList<>(cachedWords);
+    }
+
+    private void load() throws FileReadException {
+        logger.info("Reading and validating lines in parallel from file: {}", filePath);
+        DiagnosticReport report = new DiagnosticReport(DEFAULT_DIAGNOSTIC_LIMIT);
+        lastReport = report;
+
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            int workers = Math.max(1, pool.getParallelism());
+            long[] bounds = chunkBoundaries(channel,
+                    Math.min((long) workers * CHUNKS_PER_WORKER, channel.size() / minChunkSize));
+
+            List<Callable<ChunkResult>> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                tasks.add(() -> readChunk(channel, start, end, true));
+            }
+            logger.debug("Split {} into {} chunks", filePath, tasks.size());
+
+            List<String> lines = new ArrayList<>();
+            List<ValidatedWords> words = new ArrayList<>();
+            int lineOffset = 0;
+            for (Future<ChunkResult> future : pool.invokeAll(tasks)) {
+                ChunkResult chunk = future.get();
+                lines.addAll(chunk.lines);
+                words.addAll(chunk.words);
+                report.merge(chunk.report, lineOffset);
+                lineOffset += chunk.lineCount;
+            }
+
+            cachedLines = lines;
+            cachedWords = words;
+
+            logger.info("Successfully processed {} valid lines from {} total lines in {} chunks",
+                    lines.size(), lineOffset, tasks.size());
+            if (!report.isEmpty()) {
+                logger.info("Line diagnostics: {}", report);
+            }
+        } catch (IOException e) {
+            report.record(0, 0, ReasonCode.READ_ERROR);
+            logger.error("Error reading file: {} - {}", filePath, e.getMessage(), e);
+            throw new FileReadException("File not found or cannot be read: " + filePath, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileReadException("Parallel read was interrupted: " + filePath, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FileReadException) {
+                throw (FileReadException) e.getCause();
+            }
+            throw new FileReadException("Parallel read failed: " + filePath, e.getCause());
+        }
+    }
+
+    @Override
+    public Stream<String> streamValidLines() throws FileReadException {
+        if (cachedLines != null) {
+            logger.debug("Streaming cached lines");
+            return new ArrayList<>(cachedLines).stream();
+        }
+
+        FileChannel channel;
+        long[] bounds;
+        try {
+            channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ);
+            try {
+                bounds = chunkBoundaries(channel, channel.size() / minChunkSize);
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        } catch (IOException e) {
+            logger.error("Error reading file: {} - {}", filePath, e.getMessage(), e);
+            throw new FileReadException("File not found or cannot be read: " + filePath, e);
+        }
+
+        logger.info("Streaming lines in {} parallel chunks from file: {}", bounds.length - 1, filePath);
+        DiagnosticReport report = new DiagnosticReport(DEFAULT_DIAGNOSTIC_LIMIT);
+        lastReport = report;
+        int inFlight = Math.max(1, pool.getParallelism());
+        Deque<Future<ChunkResult>> pending = new ArrayDeque<>(inFlight);
+
+        Iterator<String> iterator = new Iterator<>() {
+            private int nextChunk;
+            private int lineOffset;
+            private Iterator<String> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    while (pending.size() < inFlight && nextChunk + 1 < bounds.length) {
+                        long start = bounds[nextChunk];
+                        long end = bounds[++nextChunk];
+                        pending.add(pool.submit(() -> readChunk(channel, start, end, false)));
+                    }
+                    if (pending.isEmpty()) {
+                        return false;
+                    }
+                    ChunkResult chunk = await(pending.poll(), report);
+                    report.merge(chunk.report, lineOffset);
+                    lineOffset += chunk.lineCount;
+                    current = chunk.lines.iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+
+        Spliterator<String> spliterator =
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    pending.forEach(future -> future.cancel(true));
+                    pending.clear();
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Error closing file: " + filePath, e);
+                    }
+                });
+    }
+
+    private ChunkResult await(Future<ChunkResult> future, DiagnosticReport report) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Parallel read was interrupted: " + filePath, e);
+        } catch (ExecutionException e) {
+            report.record(0, 0, ReasonCode.READ_ERROR);
+            Throwable cause = e.getCause();
+            IOException failure = cause instanceof IOException
+                    ? (IOException) cause
+                    : new IOException(cause.getMessage(), cause);
+            throw new UncheckedIOException("Parallel read failed: " + filePath, failure);
+        }
+    }
+
+    private ChunkResult readChunk(FileChannel channel, long start, long end, boolean parseWords)
+            throws IOException, FileReadException {
+        ChunkResult result = new ChunkResult(new DiagnosticReport(DEFAULT_DIAGNOSTIC_LIMIT));
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+
+        result.lineCount = MappedLineScanner.scan(channel, start, end, WINDOW_SIZE, (buffer, from, to, lineNumber) -> {
+            String line = MappedLineScanner.decode(buffer, from, to, charset);
+            if (line == null) {
+                result.report.record(lineNumber, 0, ReasonCode.BLANK_LINE);
+                return;
+            }
+            validator.diagnoseLine(line, lineNumber, result.report);
+            String trimmed = line.trim();
+            result.lines.add(trimmed);
+            if (parseWords) {
+                result.words.add(parser.parseValidated(trimmed));
+            }
+        });
+        return result;
+    }
+
+    private static LexicalProfile profileOf(ArrayParser parser) {
+        return parser instanceof LexicalArrayParser
+                ? ((LexicalArrayParser) parser).getProfile()
+                : LexicalProfile.DEFAULT;
+    }
+
+    private long[] chunkBoundaries(FileChannel channel, long requestedChunks) throws IOException {
+        long size = channel.size();
+        long chunkCount = Math.max(1, requestedChunks);
+        long chunkSize = size / chunkCount;
+
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        for (long i = 1; i < chunkCount; i++) {
+            long nominal = Math.max(i * chunkSize, bounds.get(bounds.size() - 1));
+            long boundary = nextLineStart(channel, nominal, size, probe);
+            if (boundary > bounds.get(bounds.size() - 1) && boundary < size) {
+                bounds.add(boundary);
+            }
+        }
+        bounds.add(size);
+        return bounds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    @Override
+    public void printFileStatistics() {
+        try {
+            List<String> validLines = readValidLinesFromFile();
+
+            logger.info("=== FILE STATISTICS ===");
+            logger.info("Total valid lines: {}", validLines.size());
+
+            if (validLines.isEmpty()) {
+                logger.info("No valid lines found in file!");
+                return;
+            }
+
+            for (int i = 0; i < validLines.size(); i++) {
+                String line = validLines.get(i);
+                logger.info("Line {}: '{}'", i + 1, line);
+            }
+        } catch (Exception e) {
+            logger.error("Error generating statistics: {}", e.getMessage(), e);
+        }
+    }
+
+    private static final class ChunkResult {
+        private final List<String> lines = new ArrayList<>();
+        private final List<ValidatedWords> words = new ArrayList<>();
+        private final DiagnosticReport report;
+        private int lineCount;
+
+        private ChunkResult(DiagnosticReport report) {
+            this.report = report;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.filippovich.arrayapp.reader.impl;
+
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
+import com.filippovich.arrayapp.exception.FileReadException;
+import com.filippovich.arrayapp.reader.ArrayFileReader;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class TailArrayFileReaderImpl implements ArrayFileReader, Closeable {
+    private static final Logger logger = LogManager.getLogger(TailArrayFileReaderImpl.class);
+    private static final String DEFAULT_FILE_PATH = "data/words.txt";
+    private static final long DEFAULT_POLL_INTERVAL_MILLIS = 1000;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int DEFAULT_DIAGNOSTIC_LIMIT = 100;
+    private static final int HEAD_SAMPLE_SIZE = 64;
+    private static final byte[] NO_HEAD = new byte[0];
+
+    private final Path path;
+    private final long pollIntervalMillis;
+    private final Charset charset;
+    private final TableArrayValidatorImpl validator;
+    private final List<String> cachedLines = new ArrayList<>();
+
+    private FileChannel channel;
+    private Object fileKey;
+    private FileTime lastModified;
+    private byte[] head = NO_HEAD;
+    private long offset;
+    private int lineNumber;
+    private boolean skipLineFeed;
+    private DiagnosticReport lastReport = new DiagnosticReport(DEFAULT_DIAGNOSTIC_LIMIT);
+
+    public TailArrayFileReaderImpl() {
+        this(DEFAULT_FILE_PATH);
+    }
+
+    public TailArrayFileReaderImpl(String filePath) {
+        this(filePath, DEFAULT_POLL_INTERVAL_MILLIS);
+    }
+
+    public TailArrayFileReaderImpl(String filePath, long pollIntervalMillis) {
+        this(filePath, pollIntervalMillis, Charset.defaultCharset());
+    }
+
+    public TailArrayFileReaderImpl(String filePath, long pollIntervalMillis, Charset charset) {
+        this(filePath, pollIntervalMillis, charset, LexicalProfile.DEFAULT);
+    }
+
+    public TailArrayFileReaderImpl(String filePath, long pollIntervalMillis, Charset charset, LexicalProfile profile) {
+        if (pollIntervalMillis < 1) {
+            throw new IllegalArgumentException("Poll interval must be positive: " + pollIntervalMillis);
+        }
+        this.path = Path.of(filePath);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.charset = MappedLineScanner.requireLineCompatible(charset);
+        this.validator = new TableArrayValidatorImpl(profile);
+    }
+
+    public synchronized long getOffset() {
+        return offset;
+    }
+
+    public synchronized DiagnosticReport getLastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public synchronized List<String> readValidLinesFromFile() throws FileReadException {
+        poll();
+        return new ArrayList<>(cachedLines);
+    }
+
+    public synchronized List<String> poll() throws FileReadException {
+        List<String> appended = new ArrayList<>();
+        DiagnosticReport report = new DiagnosticReport(DEFAULT_DIAGNOSTIC_LIMIT);
+        lastReport = report;
+
+        try {
+            BasicFileAttributes attributes = currentAttributes();
+            Object currentKey = attributes != null ? identityOf(attributes) : null;
+
+            if (channel != null && !Objects.equals(currentKey, fileKey)) {
+                logger.info("File {} was rotated, draining {} remaining bytes of the previous file",
+                        path, channel.size() - offset);
+                readAppended(appended, report, true);
+                closeChannel();
+                resetPosition();
+                cachedLines.clear();
+            }
+
+            if (channel == null) {
+                if (attributes == null) {
+                    return appended;
+                }
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+                fileKey = currentKey;
+            }
+
+            if (channel.size() < offset) {
+                logger.info("File {} was truncated from {} to {} bytes, reading from the start",
+                        path, offset, channel.size());
+                resetPosition();
+                cachedLines.clear();
+            } else if (!attributes.lastModifiedTime().equals(lastModified) && headChanged()) {
+                logger.info("File {} was rewritten in place (modified {}), reading from the start",
+                        path, attributes.lastModifiedTime());
+                resetPosition();
+                cachedLines.clear();
+            }
+
+            int drained = appended.size();
+            readAppended(appended, report, false);
+            cachedLines.addAll(appended.subList(drained, appended.size()));
+            lastModified = attributes.lastModifiedTime();
+            captureHead();
+        } catch (IOException e) {
+            report.record(lineNumber, 0, ReasonCode.READ_ERROR);
+            logger.error("Error tailing file: {} - {}", path, e.getMessage(), e);
+            throw new FileReadException("File cannot be read: " + path, e);
+        }
+
+        if (!appended.isEmpty()) {
+            logger.debug("Read {} appended lines from {} up to offset {}", appended.size(), path, offset);
+        }
+        return appended;
+    }
+
+    public Closeable follow(Consumer<? super String> action) throws FileReadException {
+        WatchService watchService;
+        try {
+            watchService = path.getFileSystem().newWatchService();
+            path.toAbsolutePath().getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new FileReadException("Cannot watch directory of " + path, e);
+        }
+
+        Thread follower = new Thread(() -> runFollow(watchService, action), "tail-" + path.getFileName());
+        follower.setDaemon(true);
+        follower.start();
+        logger.info("Following {} for appended lines", path);
+
+        return () -> {
+            follower.interrupt();
+            watchService.close();
+        };
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeChannel();
+    }
+
+    @Override
+    public void printFileStatistics() {
+        try {
+            List<String> validLines = readValidLinesFromFile();
+
+            logger.info("=== FILE STATISTICS ===");
+            logger.info("Total valid lines: {}", validLines.size());
+            logger.info("Tail offset: {} bytes, last modified: {}", getOffset(), lastModified);
+
+            if (validLines.isEmpty()) {
+                logger.info("No valid lines found in file!");
+                return;
+            }
+
+            for (int i = 0; i < validLines.size(); i++) {
+                String line = validLines.get(i);
+                logger.info("Line {}: '{}'", i + 1, line);
+            }
+        } catch (Exception e) {
+            logger.error("Error generating statistics: {}", e.getMessage(), e);
+        }
+    }
+
+    private void runFollow(WatchService watchService, Consumer<? super String> action) {
+        try {
+            deliver(action);
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.poll(pollIntervalMillis, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    boolean relevant = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        relevant |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                                || path.getFileName().equals(event.context());
+                    }
+                    key.reset();
+                    if (!relevant) {
+                        continue;
+                    }
+                }
+                deliver(action);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.debug("Stopped following {}", path);
+        } catch (FileReadException e) {
+            logger.error("Stopped following {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void deliver(Consumer<? super String> action) throws FileReadException {
+        for (String line : poll()) {
+            action.accept(line);
+        }
+    }
+
+    private void readAppended(List<String> out, DiagnosticReport report, boolean toEnd) throws IOException {
+        long size = channel.size();
+        long position = offset;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(READ_BUFFER_SIZE, Math.max(1, size - offset)));
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (b == '\n') {
+                        offset = position + i + 1;
+                        continue;
+                    }
+                }
+                if (b == '\n' || b == '\r') {
+                    accept(line, out, report);
+                    line.reset();
+                    skipLineFeed = b == '\r';
+                    offset = position + i + 1;
+                } else {
+                    line.write(b);
+                }
+            }
+            position += read;
+        }
+
+        if (toEnd && line.size() > 0) {
+            accept(line, out, report);
+            offset = position;
+        }
+    }
+
+    private void accept(ByteArrayOutputStream bytes, List<String> out, DiagnosticReport report) {
+        lineNumber++;
+        String line = new String(bytes.toByteArray(), charset);
+        if (line.isBlank()) {
+            report.record(lineNumber, 0, ReasonCode.BLANK_LINE);
+            return;
+        }
+        validator.diagnoseLine(line, lineNumber, report);
+        out.add(line.trim());
+    }
+
+    private BasicFileAttributes currentAttributes() throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private boolean headChanged() throws IOException {
+        if (head.length == 0) {
+            return false;
+        }
+        return !Arrays.equals(head, readHead(head.length));
+    }
+
+    private void captureHead() throws IOException {
+        int length = (int) Math.min(offset, HEAD_SAMPLE_SIZE);
+        if (length > head.length) {
+            head = readHead(length);
+        }
+    }
+
+    private byte[] readHead(int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) <= 0) {
+                break;
+            }
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    private Object identityOf(BasicFileAttributes attributes) {
+        return attributes.fileKey() != null ? attributes.fileKey() : attributes.creationTime();
+    }
+
+    private void resetPosition() {
+        offset = 0;
+        lineNumber = 0;
+        skipLineFeed = false;
+        head = NO_HEAD;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+            fileKey = null;
+            lastModified = null;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.UUID;
 
 public interface StringArrayRepository {
     void add(StringArray stringArray);
+    void addAll(List<StringArray> stringArrays);
     List<StringArray> getAll();
     boolean remove(StringArray stringArray);
     public void clear();
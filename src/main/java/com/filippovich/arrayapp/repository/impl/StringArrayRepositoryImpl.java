@@ -37,6 +37,10 @@ public class StringArrayRepositoryImpl implements StringArrayRepository {
         observerManager.notifyObservers(array, eventType);
     }
 
+    private void notifyObservers(List<StringArray> arrays, String eventType) {
+        observerManager.notifyObservers(arrays, eventType);
+    }
+
     @Override
     public void add(StringArray stringArray) {
         if (stringArray != null && stringArray.getId() != null) {
@@ -46,6 +50,24 @@ public class StringArrayRepositoryImpl implements StringArrayRepository {
         }
     }
 
+    @Override
+    public void addAll(List<StringArray> stringArrays) {
+        if (stringArrays == null || stringArrays.isEmpty()) {
+            return;
+        }
+
+        List<StringArray> added = new ArrayList<>(stringArrays.size());
+        for (StringArray stringArray : stringArrays) {
+            if (stringArray != null && stringArray.getId() != null) {
+                added.add(stringArray);
+            }
+        }
+
+        storage.addAll(added);
+        notifyObservers(added, "ADD");
+        logger.debug("Batch of {} arrays added to repository", added.size());
+    }
+
     @Override
     public boolean remove(StringArray stringArray) {
         if (stringArray == null) {
@@ -64,6 +86,7 @@ public class StringArrayRepositoryImpl implements StringArrayRepository {
             if (element != null && id.equals(element.getId())) {
                 iterator.remove();
                 notifyObservers(element, "REMOVE");
+                element.release();
                 logger.debug("Array removed from repository: {}", id);
                 return true;
             }
@@ -81,11 +104,13 @@ public class StringArrayRepositoryImpl implements StringArrayRepository {
             return;
         }
 
-        for (StringArray array : new ArrayList<>(storage)) {
-            notifyObservers(array, "REMOVE");
+        List<StringArray> removed = new ArrayList<>(storage);
+        storage.clear();
+        notifyObservers(removed, "REMOVE");
+        for (StringArray array : removed) {
+            array.release();
         }
 
-        storage.clear();
         logger.info("Repository cleared successfully. Removed {} arrays", initialSize);
     }
 
@@ -2,28 +2,40 @@ package com.filippovich.arrayapp.service.impl;
 
 import com.filippovich.arrayapp.entity.StringArray;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.factory.ResultMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.service.ArrayService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.function.IntPredicate;
+
 public class ArrayServiceImpl implements ArrayService {
     private static final Logger logger = LogManager.getLogger(ArrayServiceImpl.class);
+    private final ResultMode resultMode;
+
+    public ArrayServiceImpl() {
+        this(ResultMode.PERSISTENT);
+    }
+
+    public ArrayServiceImpl(ResultMode resultMode) {
+        this.resultMode = resultMode;
+    }
 
     @Override
     public String findShortestWord(StringArray array) {
-        logger.debug("Finding shortest word in array: {}", array);
+        logger.debug("Finding shortest word in array: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.warn("Attempt to find shortest word in empty array");
             return "";
         }
 
-        String[] arr = array.getArray();
-        String shortest = arr[0];
-        for (int i = 1; i < arr.length; i++) {
-            if (arr[i].length() < shortest.length()) {
-                shortest = arr[i];
+        String shortest = array.get(0);
+        for (int i = 1; i < array.length(); i++) {
+            String word = array.get(i);
+            if (word.length() < shortest.length()) {
+                shortest = word;
             }
         }
 
@@ -33,18 +45,18 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public String findLongestWord(StringArray array) {
-        logger.debug("Finding longest word in array: {}", array);
+        logger.debug("Finding longest word in array: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.warn("Attempt to find longest word in empty array");
             return "";
         }
 
-        String[] arr = array.getArray();
-        String longest = arr[0];
-        for (int i = 1; i < arr.length; i++) {
-            if (arr[i].length() > longest.length()) {
-                longest = arr[i];
+        String longest = array.get(0);
+        for (int i = 1; i < array.length(); i++) {
+            String word = array.get(i);
+            if (word.length() > longest.length()) {
+                longest = word;
             }
         }
 
@@ -54,18 +66,14 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public double calculateAverageLength(StringArray array) {
-        logger.debug("Calculating average word length in array: {}", array);
+        logger.debug("Calculating average word length in array: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.warn("Attempt to calculate average length of empty array");
             return 0.0;
         }
 
-        String[] arr = array.getArray();
-        int totalLength = 0;
-        for (String word : arr) {
-            totalLength += word.length();
-        }
+        int totalLength = array.totalCharacters();
 
         double average = (double) totalLength / array.length();
         logger.debug("Average word length: {}", average);
@@ -74,13 +82,9 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public int calculateTotalCharacters(StringArray array) {
-        logger.debug("Calculating total characters in array: {}", array);
+        logger.debug("Calculating total characters in array: {}", array.summary());
 
-        String[] arr = array.getArray();
-        int total = 0;
-        for (String word : arr) {
-            total += word.length();
-        }
+        int total = array.totalCharacters();
 
         logger.debug("Total characters: {}", total);
         return total;
@@ -88,12 +92,11 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public int countWordsLongerThan(StringArray array, int minLength) {
-        logger.debug("Counting words longer than {} in array: {}", minLength, array);
+        logger.debug("Counting words longer than {} in array: {}", minLength, array.summary());
 
-        String[] arr = array.getArray();
         int count = 0;
-        for (String word : arr) {
-            if (word.length() > minLength) {
+        for (int i = 0; i < array.length(); i++) {
+            if (array.wordLength(i) > minLength) {
                 count++;
             }
         }
@@ -104,12 +107,11 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public int countWordsShorterThan(StringArray array, int maxLength) {
-        logger.debug("Counting words shorter than {} in array: {}", maxLength, array);
+        logger.debug("Counting words shorter than {} in array: {}", maxLength, array.summary());
 
-        String[] arr = array.getArray();
         int count = 0;
-        for (String word : arr) {
-            if (word.length() < maxLength) {
+        for (int i = 0; i < array.length(); i++) {
+            if (array.wordLength(i) < maxLength) {
                 count++;
             }
         }
@@ -120,52 +122,51 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public StringArray replaceWords(StringArray array, String oldWord, String newWord) throws InvalidArrayException {
-        logger.debug("Replacing words in array: {}, oldWord: '{}', newWord: '{}'", array, oldWord, newWord);
+        logger.debug("Replacing words in array: {}, oldWord: '{}', newWord: '{}'", array.summary(), oldWord, newWord);
 
-        String[] arr = array.getArray();
-        String[] result = new String[arr.length];
+        IntPredicate matchesOldWord = array.wordMatcher(oldWord);
+        StringArray.Builder result = StringArray.builder(array.length());
 
-        for (int i = 0; i < arr.length; i++) {
-            result[i] = arr[i].equals(oldWord) ? newWord : arr[i];
+        for (int i = 0; i < array.length(); i++) {
+            result.append(matchesOldWord.test(i) ? newWord : array.get(i));
         }
 
-        StringArray replacedArray = ArrayFactory.createFromArray(result);
-        logger.debug("Words replaced. Result: {}", replacedArray);
+        StringArray replacedArray = ArrayFactory.createFromBuilder(result, resultMode);
+        logger.debug("Words replaced. Result: {}", replacedArray.summary());
         return replacedArray;
     }
 
     @Override
     public StringArray replaceWordsByLength(StringArray array, int targetLength, String newWord) throws InvalidArrayException {
-        logger.debug("Replacing words with length {} with '{}' in array: {}", targetLength, newWord, array);
+        logger.debug("Replacing words with length {} with '{}' in array: {}", targetLength, newWord, array.summary());
 
-        String[] arr = array.getArray();
-        String[] result = new String[arr.length];
+        StringArray.Builder result = StringArray.builder(array.length());
 
-        for (int i = 0; i < arr.length; i++) {
-            result[i] = (arr[i].length() == targetLength) ? newWord : arr[i];
+        for (int i = 0; i < array.length(); i++) {
+            result.append((array.wordLength(i) == targetLength) ? newWord : array.get(i));
         }
 
-        StringArray replacedArray = ArrayFactory.createFromArray(result);
-        logger.debug("Words replaced by length. Result: {}", replacedArray);
+        StringArray replacedArray = ArrayFactory.createFromBuilder(result, resultMode);
+        logger.debug("Words replaced by length. Result: {}", replacedArray.summary());
         return replacedArray;
     }
 
     @Override
     public String findFirstAlphabetically(StringArray array) {
-        logger.debug("Finding first word alphabetically in array: {}", array);
+        logger.debug("Finding first word alphabetically in array: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.warn("Attempt to find first word in empty array");
             return "";
         }
 
-        String[] arr = array.getArray();
-        String first = arr[0];
-        for (int i = 1; i < arr.length; i++) {
-            if (arr[i].compareToIgnoreCase(first) < 0) {
-                first = arr[i];
+        int firstIndex = 0;
+        for (int i = 1; i < array.length(); i++) {
+            if (array.compareWordsIgnoreCase(i, firstIndex) < 0) {
+                firstIndex = i;
             }
         }
+        String first = array.get(firstIndex);
 
         logger.debug("First word alphabetically: '{}'", first);
         return first;
@@ -173,20 +174,20 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public String findLastAlphabetically(StringArray array) {
-        logger.debug("Finding last word alphabetically in array: {}", array);
+        logger.debug("Finding last word alphabetically in array: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.warn("Attempt to find last word in empty array");
             return "";
         }
 
-        String[] arr = array.getArray();
-        String last = arr[0];
-        for (int i = 1; i < arr.length; i++) {
-            if (arr[i].compareToIgnoreCase(last) > 0) {
-                last = arr[i];
+        int lastIndex = 0;
+        for (int i = 1; i < array.length(); i++) {
+            if (array.compareWordsIgnoreCase(i, lastIndex) > 0) {
+                lastIndex = i;
             }
         }
+        String last = array.get(lastIndex);
 
         logger.debug("Last word alphabetically: '{}'", last);
         return last;
@@ -194,12 +195,12 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public int countWordsStartingWith(StringArray array, char letter) {
-        logger.debug("Counting words starting with '{}' in array: {}", letter, array);
+        logger.debug("Counting words starting with '{}' in array: {}", letter, array.summary());
 
-        String[] arr = array.getArray();
+        char target = Character.toLowerCase(letter);
         int count = 0;
-        for (String word : arr) {
-            if (!word.isEmpty() && Character.toLowerCase(word.charAt(0)) == Character.toLowerCase(letter)) {
+        for (int i = 0; i < array.length(); i++) {
+            if (array.wordLength(i) > 0 && Character.toLowerCase(array.charAt(i, 0)) == target) {
                 count++;
             }
         }
@@ -210,13 +211,13 @@ public class ArrayServiceImpl implements ArrayService {
 
     @Override
     public int countWordsEndingWith(StringArray array, char letter) {
-        logger.debug("Counting words ending with '{}' in array: {}", letter, array);
+        logger.debug("Counting words ending with '{}' in array: {}", letter, array.summary());
 
-        String[] arr = array.getArray();
+        char target = Character.toLowerCase(letter);
         int count = 0;
-        for (String word : arr) {
-            if (!word.isEmpty() &&
-                    Character.toLowerCase(word.charAt(word.length() - 1)) == Character.toLowerCase(letter)) {
+        for (int i = 0; i < array.length(); i++) {
+            int length = array.wordLength(i);
+            if (length > 0 && Character.toLowerCase(array.charAt(i, length - 1)) == target) {
                 count++;
             }
         }
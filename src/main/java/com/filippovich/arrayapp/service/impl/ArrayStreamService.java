@@ -2,6 +2,7 @@ package com.filippovich.arrayapp.service.impl;
 
 import com.filippovich.arrayapp.entity.StringArray;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.factory.ResultMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.service.ArrayService;
 import com.filippovich.arrayapp.comparator.impl.StringArrayComparatorImpl;
@@ -10,16 +11,27 @@ import org.apache.logging.log4j.Logger;
 
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
 
 public class ArrayStreamService implements ArrayService {
     private static final Logger logger = LogManager.getLogger(ArrayStreamService.class);
     private final StringArrayComparatorImpl comparator = new StringArrayComparatorImpl();
+    private final ResultMode resultMode;
+
+    public ArrayStreamService() {
+        this(ResultMode.PERSISTENT);
+    }
+
+    public ArrayStreamService(ResultMode resultMode) {
+        this.resultMode = resultMode;
+    }
 
     @Override
     public String findShortestWord(StringArray array) {
-        logger.debug("Finding shortest word using Stream API in array: {}", array);
+        logger.debug("Finding shortest word using Stream API in array: {}", array.summary());
 
-        String result = Arrays.stream(array.getArray())
+        String result = array.stream()
                 .min(Comparator.comparingInt(String::length))
                 .orElse("");
 
@@ -29,9 +41,9 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public String findLongestWord(StringArray array) {
-        logger.debug("Finding longest word using Stream API in array: {}", array);
+        logger.debug("Finding longest word using Stream API in array: {}", array.summary());
 
-        String result = Arrays.stream(array.getArray())
+        String result = array.stream()
                 .max(Comparator.comparingInt(String::length))
                 .orElse("");
 
@@ -41,10 +53,9 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public double calculateAverageLength(StringArray array) {
-        logger.debug("Calculating average word length using Stream API in array: {}", array);
+        logger.debug("Calculating average word length using Stream API in array: {}", array.summary());
 
-        double result = Arrays.stream(array.getArray())
-                .mapToInt(String::length)
+        double result = array.wordLengths()
                 .average()
                 .orElse(0.0);
 
@@ -54,10 +65,9 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public int calculateTotalCharacters(StringArray array) {
-        logger.debug("Calculating total characters using Stream API in array: {}", array);
+        logger.debug("Calculating total characters using Stream API in array: {}", array.summary());
 
-        int result = Arrays.stream(array.getArray())
-                .mapToInt(String::length)
+        int result = array.wordLengths()
                 .sum();
 
         logger.debug("Total characters: {}", result);
@@ -66,10 +76,10 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public int countWordsLongerThan(StringArray array, int minLength) {
-        logger.debug("Counting words longer than {} using Stream API in array: {}", minLength, array);
+        logger.debug("Counting words longer than {} using Stream API in array: {}", minLength, array.summary());
 
-        long result = Arrays.stream(array.getArray())
-                .filter(word -> word.length() > minLength)
+        long result = array.wordLengths()
+                .filter(length -> length > minLength)
                 .count();
 
         logger.debug("Words longer than {}: {}", minLength, result);
@@ -78,10 +88,10 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public int countWordsShorterThan(StringArray array, int maxLength) {
-        logger.debug("Counting words shorter than {} using Stream API in array: {}", maxLength, array);
+        logger.debug("Counting words shorter than {} using Stream API in array: {}", maxLength, array.summary());
 
-        long result = Arrays.stream(array.getArray())
-                .filter(word -> word.length() < maxLength)
+        long result = array.wordLengths()
+                .filter(length -> length < maxLength)
                 .count();
 
         logger.debug("Words shorter than {}: {}", maxLength, result);
@@ -90,36 +100,39 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public StringArray replaceWords(StringArray array, String oldWord, String newWord) throws InvalidArrayException {
-        logger.debug("Replacing words using Stream API in array: {}, '{}' -> '{}'", array, oldWord, newWord);
+        logger.debug("Replacing words using Stream API in array: {}, '{}' -> '{}'", array.summary(), oldWord, newWord);
 
-        String[] result = Arrays.stream(array.getArray())
-                .map(word -> word.equals(oldWord) ? newWord : word)
-                .toArray(String[]::new);
+        IntPredicate matchesOldWord = array.wordMatcher(oldWord);
+        StringArray.Builder result = StringArray.builder(array.length());
+        IntStream.range(0, array.length())
+                .mapToObj(i -> matchesOldWord.test(i) ? newWord : array.get(i))
+                .forEachOrdered(result::append);
 
-        StringArray replacedArray = ArrayFactory.createFromArray(result);
-        logger.debug("Words replaced successfully. Result: {}", replacedArray);
+        StringArray replacedArray = ArrayFactory.createFromBuilder(result, resultMode);
+        logger.debug("Words replaced successfully. Result: {}", replacedArray.summary());
         return replacedArray;
     }
 
     @Override
     public StringArray replaceWordsByLength(StringArray array, int targetLength, String newWord) throws InvalidArrayException {
         logger.debug("Replacing words by length using Stream API in array: {}, length {} -> '{}'",
-                array, targetLength, newWord);
+                array.summary(), targetLength, newWord);
 
-        String[] result = Arrays.stream(array.getArray())
+        StringArray.Builder result = StringArray.builder(array.length());
+        array.stream()
                 .map(word -> word.length() == targetLength ? newWord : word)
-                .toArray(String[]::new);
+                .forEachOrdered(result::append);
 
-        StringArray replacedArray = ArrayFactory.createFromArray(result);
-        logger.debug("Words replaced by length successfully. Result: {}", replacedArray);
+        StringArray replacedArray = ArrayFactory.createFromBuilder(result, resultMode);
+        logger.debug("Words replaced by length successfully. Result: {}", replacedArray.summary());
         return replacedArray;
     }
 
     @Override
     public String findFirstAlphabetically(StringArray array) {
-        logger.debug("Finding first word alphabetically using Stream API in array: {}", array);
+        logger.debug("Finding first word alphabetically using Stream API in array: {}", array.summary());
 
-        String result = Arrays.stream(array.getArray())
+        String result = array.stream()
                 .min((s1, s2) -> {
                     StringArray arr1 = new StringArray(new String[]{s1});
                     StringArray arr2 = new StringArray(new String[]{s2});
@@ -133,9 +146,9 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public String findLastAlphabetically(StringArray array) {
-        logger.debug("Finding last word alphabetically using Stream API in array: {}", array);
+        logger.debug("Finding last word alphabetically using Stream API in array: {}", array.summary());
 
-        String result = Arrays.stream(array.getArray())
+        String result = array.stream()
                 .max((s1, s2) -> {
                     StringArray arr1 = new StringArray(new String[]{s1});
                     StringArray arr2 = new StringArray(new String[]{s2});
@@ -149,11 +162,12 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public int countWordsStartingWith(StringArray array, char letter) {
-        logger.debug("Counting words starting with '{}' using Stream API in array: {}", letter, array);
+        logger.debug("Counting words starting with '{}' using Stream API in array: {}", letter, array.summary());
 
-        long result = Arrays.stream(array.getArray())
-                .filter(word -> !word.isEmpty() &&
-                        Character.toLowerCase(word.charAt(0)) == Character.toLowerCase(letter))
+        char target = Character.toLowerCase(letter);
+        long result = IntStream.range(0, array.length())
+                .filter(i -> array.wordLength(i) > 0 &&
+                        Character.toLowerCase(array.charAt(i, 0)) == target)
                 .count();
 
         logger.debug("Words starting with '{}': {}", letter, result);
@@ -162,11 +176,12 @@ public class ArrayStreamService implements ArrayService {
 
     @Override
     public int countWordsEndingWith(StringArray array, char letter) {
-        logger.debug("Counting words ending with '{}' using Stream API in array: {}", letter, array);
+        logger.debug("Counting words ending with '{}' using Stream API in array: {}", letter, array.summary());
 
-        long result = Arrays.stream(array.getArray())
-                .filter(word -> !word.isEmpty() &&
-                        Character.toLowerCase(word.charAt(word.length() - 1)) == Character.toLowerCase(letter))
+        char target = Character.toLowerCase(letter);
+        long result = IntStream.range(0, array.length())
+                .filter(i -> array.wordLength(i) > 0 &&
+                        Character.toLowerCase(array.charAt(i, array.wordLength(i) - 1)) == target)
                 .count();
 
         logger.debug("Words ending with '{}': {}", letter, result);
@@ -174,64 +189,64 @@ public class ArrayStreamService implements ArrayService {
     }
 
     public StringArray sortById(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting StringArray by ID using custom comparator: {}", array);
+        logger.debug("Sorting StringArray by ID using custom comparator: {}", array.summary());
 
         StringArray[] sorted = Arrays.stream(new StringArray[]{array})
                 .sorted(comparator.byId())
                 .toArray(StringArray[]::new);
 
-        logger.debug("Sorted by ID: {}", sorted[0]);
+        logger.debug("Sorted by ID: {}", sorted[0].summary());
         return sorted[0];
     }
 
     public StringArray sortByLength(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting StringArray by length using custom comparator: {}", array);
+        logger.debug("Sorting StringArray by length using custom comparator: {}", array.summary());
 
         StringArray[] sorted = Arrays.stream(new StringArray[]{array})
                 .sorted(comparator.byLength())
                 .toArray(StringArray[]::new);
 
-        logger.debug("Sorted by length: {}", sorted[0]);
+        logger.debug("Sorted by length: {}", sorted[0].summary());
         return sorted[0];
     }
 
     public StringArray sortByFirstElement(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting StringArray by first element using custom comparator: {}", array);
+        logger.debug("Sorting StringArray by first element using custom comparator: {}", array.summary());
 
         StringArray[] sorted = Arrays.stream(new StringArray[]{array})
                 .sorted(comparator.byFirstElement())
                 .toArray(StringArray[]::new);
 
-        logger.debug("Sorted by first element: {}", sorted[0]);
+        logger.debug("Sorted by first element: {}", sorted[0].summary());
         return sorted[0];
     }
 
     public StringArray sortByLastElement(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting StringArray by last element using custom comparator: {}", array);
+        logger.debug("Sorting StringArray by last element using custom comparator: {}", array.summary());
 
         StringArray[] sorted = Arrays.stream(new StringArray[]{array})
                 .sorted(comparator.byLastElement())
                 .toArray(StringArray[]::new);
 
-        logger.debug("Sorted by last element: {}", sorted[0]);
+        logger.debug("Sorted by last element: {}", sorted[0].summary());
         return sorted[0];
     }
 
     public StringArray sortByAlphabeticalOrder(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting StringArray by alphabetical order using custom comparator: {}", array);
+        logger.debug("Sorting StringArray by alphabetical order using custom comparator: {}", array.summary());
 
         StringArray[] sorted = Arrays.stream(new StringArray[]{array})
                 .sorted(comparator.byAlphabeticalOrder())
                 .toArray(StringArray[]::new);
 
-        logger.debug("Sorted by alphabetical order: {}", sorted[0]);
+        logger.debug("Sorted by alphabetical order: {}", sorted[0].summary());
         return sorted[0];
     }
 
     public String[] findWordsLongerThan(StringArray array, int minLength) {
-        logger.debug("Finding words longer than {} using Stream API in array: {}", minLength, array);
+        logger.debug("Finding words longer than {} using Stream API in array: {}", minLength, array.summary());
 
-        String[] result = Arrays.stream(array.getArray())
+        String[] result = array.stream()
                 .filter(word -> word.length() > minLength)
                 .toArray(String[]::new);
 
@@ -240,9 +255,9 @@ public class ArrayStreamService implements ArrayService {
     }
 
     public String[] findWordsContaining(StringArray array, String substring) {
-        logger.debug("Finding words containing '{}' using Stream API in array: {}", substring, array);
+        logger.debug("Finding words containing '{}' using Stream API in array: {}", substring, array.summary());
 
-        String[] result = Arrays.stream(array.getArray())
+        String[] result = array.stream()
                 .filter(word -> word.toLowerCase().contains(substring.toLowerCase()))
                 .toArray(String[]::new);
 
@@ -251,10 +266,10 @@ public class ArrayStreamService implements ArrayService {
     }
 
     public String[] getUniqueWords(StringArray array) {
-        logger.debug("Getting unique words using Stream API in array: {}", array);
+        logger.debug("Getting unique words using Stream API in array: {}", array.summary());
 
-        String[] result = Arrays.stream(array.getArray())
-                .distinct()
+        String[] result = IntStream.of(array.distinctWordIndexes())
+                .mapToObj(array::get)
                 .toArray(String[]::new);
 
         logger.debug("Found {} unique words from {} total words", result.length, array.length());
@@ -262,9 +277,9 @@ public class ArrayStreamService implements ArrayService {
     }
 
     public String[] getWordsSortedByLength(StringArray array) {
-        logger.debug("Getting words sorted by length using Stream API in array: {}", array);
+        logger.debug("Getting words sorted by length using Stream API in array: {}", array.summary());
 
-        String[] result = Arrays.stream(array.getArray())
+        String[] result = array.stream()
                 .sorted((s1, s2) -> {
                     StringArray arr1 = new StringArray(new String[]{s1});
                     StringArray arr2 = new StringArray(new String[]{s2});
@@ -277,9 +292,9 @@ public class ArrayStreamService implements ArrayService {
     }
 
     public String[] getWordsSortedAlphabetically(StringArray array) {
-        logger.debug("Getting words sorted alphabetically using Stream API in array: {}", array);
+        logger.debug("Getting words sorted alphabetically using Stream API in array: {}", array.summary());
 
-        String[] result = Arrays.stream(array.getArray())
+        String[] result = array.stream()
                 .sorted((s1, s2) -> {
                     StringArray arr1 = new StringArray(new String[]{s1});
                     StringArray arr2 = new StringArray(new String[]{s2});
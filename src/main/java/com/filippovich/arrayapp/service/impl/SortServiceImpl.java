@@ -2,89 +2,101 @@ package com.filippovich.arrayapp.service.impl;
 
 import com.filippovich.arrayapp.entity.StringArray;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.factory.ResultMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.service.SortService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Arrays;
 import java.util.Comparator;
 
 public class SortServiceImpl implements SortService {
     private static final Logger logger = LogManager.getLogger(SortServiceImpl.class);
+    private final ResultMode resultMode;
+
+    public SortServiceImpl() {
+        this(ResultMode.PERSISTENT);
+    }
+
+    public SortServiceImpl(ResultMode resultMode) {
+        this.resultMode = resultMode;
+    }
 
     @Override
     public StringArray sortByLengthBubble(StringArray array) throws InvalidArrayException {
-        logger.debug("Bubble sorting by word length: {}", array);
+        logger.debug("Bubble sorting by word length: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray();
-        int n = arr.length;
+        StringArray.Builder builder = array.toBuilder().sortInPlace(arr -> {
+            int n = arr.length;
 
-        for (int i = 0; i < n - 1; i++) {
-            for (int j = 0; j < n - i - 1; j++) {
-                if (arr[j].length() > arr[j + 1].length()) {
-                    String temp = arr[j];
-                    arr[j] = arr[j + 1];
-                    arr[j + 1] = temp;
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = 0; j < n - i - 1; j++) {
+                    if (arr[j].length() > arr[j + 1].length()) {
+                        String temp = arr[j];
+                        arr[j] = arr[j + 1];
+                        arr[j + 1] = temp;
+                    }
                 }
             }
-        }
+        });
 
-        StringArray sortedArray = ArrayFactory.createFromArray(arr);
-        logger.debug("Bubble sort completed. Result: {}", sortedArray);
+        StringArray sortedArray = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Bubble sort completed. Result: {}", sortedArray.summary());
         return sortedArray;
     }
 
     @Override
     public StringArray sortByLengthSelection(StringArray array) throws InvalidArrayException {
-        logger.debug("Selection sorting by word length: {}", array);
+        logger.debug("Selection sorting by word length: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray();
-        int n = arr.length;
+        StringArray.Builder builder = array.toBuilder().sortInPlace(arr -> {
+            int n = arr.length;
 
-        for (int i = 0; i < n - 1; i++) {
-            int minIndex = i;
-            for (int j = i + 1; j < n; j++) {
-                if (arr[j].length() < arr[minIndex].length()) {
-                    minIndex = j;
+            for (int i = 0; i < n - 1; i++) {
+                int minIndex = i;
+                for (int j = i + 1; j < n; j++) {
+                    if (arr[j].length() < arr[minIndex].length()) {
+                        minIndex = j;
+                    }
                 }
+                String temp = arr[minIndex];
+                arr[minIndex] = arr[i];
+                arr[i] = temp;
             }
-            String temp = arr[minIndex];
-            arr[minIndex] = arr[i];
-            arr[i] = temp;
-        }
+        });
 
-        StringArray sortedArray = ArrayFactory.createFromArray(arr);
-        logger.debug("Selection sort completed. Result: {}", sortedArray);
+        StringArray sortedArray = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Selection sort completed. Result: {}", sortedArray.summary());
         return sortedArray;
     }
 
     @Override
     public StringArray sortByLengthQuick(StringArray array) throws InvalidArrayException {
-        logger.debug("Quick sorting by word length: {}", array);
+        logger.debug("Quick sorting by word length: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray();
-        if (arr.length > 1) {
-            quickSortByLength(arr, 0, arr.length - 1);
-        }
+        StringArray.Builder builder = array.toBuilder().sortInPlace(arr -> {
+            if (arr.length > 1) {
+                quickSortByLength(arr, 0, arr.length - 1);
+            }
+        });
 
-        StringArray sortedArray = ArrayFactory.createFromArray(arr);
-        logger.debug("Quick sort completed. Result: {}", sortedArray);
+        StringArray sortedArray = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Quick sort completed. Result: {}", sortedArray.summary());
         return sortedArray;
     }
 
@@ -120,35 +132,34 @@ public class SortServiceImpl implements SortService {
 
     @Override
     public StringArray sortAlphabetically(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting alphabetically: {}", array);
+        logger.debug("Sorting alphabetically: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray();
-        Arrays.sort(arr, String.CASE_INSENSITIVE_ORDER);
+        StringArray.Builder builder = array.toBuilder().sort(String.CASE_INSENSITIVE_ORDER);
 
-        StringArray sortedArray = ArrayFactory.createFromArray(arr);
-        logger.debug("Alphabetical sort completed. Result: {}", sortedArray);
+        StringArray sortedArray = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Alphabetical sort completed. Result: {}", sortedArray.summary());
         return sortedArray;
     }
 
     @Override
     public StringArray sortByLengthDescending(StringArray array) throws InvalidArrayException {
-        logger.debug("Sorting by length descending: {}", array);
+        logger.debug("Sorting by length descending: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray();
-        Arrays.sort(arr, Comparator.comparingInt(String::length).reversed());
+        StringArray.Builder builder = array.toBuilder()
+                .sort(Comparator.comparingInt(String::length).reversed());
 
-        StringArray sortedArray = ArrayFactory.createFromArray(arr);
-        logger.debug("Length descending sort completed. Result: {}", sortedArray);
+        StringArray sortedArray = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Length descending sort completed. Result: {}", sortedArray.summary());
         return sortedArray;
     }
 }
\ No newline at end of file
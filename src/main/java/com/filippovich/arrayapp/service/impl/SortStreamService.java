@@ -2,9 +2,11 @@ package com.filippovich.arrayapp.service.impl;
 
 import com.filippovich.arrayapp.entity.StringArray;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.factory.ResultMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.service.SortService;
 import com.filippovich.arrayapp.comparator.impl.StringArrayComparatorImpl;
+import com.filippovich.arrayapp.validation.LexicalProfile;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -15,79 +17,98 @@ import java.util.stream.IntStream;
 public class SortStreamService implements SortService {
     private static final Logger logger = LogManager.getLogger(SortStreamService.class);
     private final StringArrayComparatorImpl comparator = new StringArrayComparatorImpl();
+    private final ResultMode resultMode;
+    private final LexicalProfile profile;
+
+    public SortStreamService() {
+        this(ResultMode.PERSISTENT);
+    }
+
+    public SortStreamService(ResultMode resultMode) {
+        this(resultMode, LexicalProfile.DEFAULT);
+    }
+
+    public SortStreamService(ResultMode resultMode, LexicalProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Lexical profile must not be null");
+        }
+        this.resultMode = resultMode;
+        this.profile = profile;
+    }
 
     @Override
     public StringArray sortByLengthBubble(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream bubble sort by length: {}", array);
+        logger.debug("Stream bubble sort by length: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray().clone();
-        int n = arr.length;
-
-        IntStream.range(0, n - 1)
-                .forEach(i -> IntStream.range(0, n - i - 1)
-                        .forEach(j -> {
-                            if (arr[j].length() > arr[j + 1].length()) {
-                                String temp = arr[j];
-                                arr[j] = arr[j + 1];
-                                arr[j + 1] = temp;
-                            }
-                        }));
-
-        StringArray result = ArrayFactory.createFromArray(arr);
-        logger.debug("Stream bubble sorted by length: {}", result);
+        StringArray.Builder builder = array.toBuilder().sortInPlace(arr -> {
+            int n = arr.length;
+
+            IntStream.range(0, n - 1)
+                    .forEach(i -> IntStream.range(0, n - i - 1)
+                            .forEach(j -> {
+                                if (arr[j].length() > arr[j + 1].length()) {
+                                    String temp = arr[j];
+                                    arr[j] = arr[j + 1];
+                                    arr[j + 1] = temp;
+                                }
+                            }));
+        });
+
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream bubble sorted by length: {}", result.summary());
         return result;
     }
 
     @Override
     public StringArray sortByLengthSelection(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream selection sort by length: {}", array);
+        logger.debug("Stream selection sort by length: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] arr = array.getArray().clone();
-        int n = arr.length;
+        StringArray.Builder builder = array.toBuilder().sortInPlace(arr -> {
+            int n = arr.length;
 
-        IntStream.range(0, n - 1)
-                .forEach(i -> {
-                    final int currentI = i;
-                    int minIndex = IntStream.range(currentI, n)
-                            .reduce(currentI, (min, j) ->
-                                    arr[j].length() < arr[min].length() ? j : min);
+            IntStream.range(0, n - 1)
+                    .forEach(i -> {
+                        final int currentI = i;
+                        int minIndex = IntStream.range(currentI, n)
+                                .reduce(currentI, (min, j) ->
+                                        arr[j].length() < arr[min].length() ? j : min);
 
-                    String temp = arr[minIndex];
-                    arr[minIndex] = arr[currentI];
-                    arr[currentI] = temp;
-                });
+                        String temp = arr[minIndex];
+                        arr[minIndex] = arr[currentI];
+                        arr[currentI] = temp;
+                    });
+        });
 
-        StringArray result = ArrayFactory.createFromArray(arr);
-        logger.debug("Stream selection sorted by length: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream selection sorted by length: {}", result.summary());
         return result;
     }
 
     @Override
     public StringArray sortByLengthQuick(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream quick sort by length: {}", array);
+        logger.debug("Stream quick sort by length: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(Comparator.comparingInt(String::length)
-                        .thenComparing(Comparator.naturalOrder()))
-                .toArray(String[]::new);
+        StringArray.Builder builder = array.toBuilder()
+                .sort(Comparator.comparingInt(String::length)
+                        .thenComparing(Comparator.naturalOrder()));
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream quick sorted by length: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream quick sorted by length: {}", result.summary());
         return result;
     }
 
@@ -130,143 +151,144 @@ public class SortStreamService implements SortService {
 
     @Override
     public StringArray sortAlphabetically(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream alphabetical sort: {}", array);
+        logger.debug("Stream alphabetical sort: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(String.CASE_INSENSITIVE_ORDER)
-                .toArray(String[]::new);
+        StringArray.Builder builder = array.toBuilder()
+                .sort(String.CASE_INSENSITIVE_ORDER);
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream alphabetically sorted: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream alphabetically sorted: {}", result.summary());
         return result;
     }
 
     @Override
     public StringArray sortByLengthDescending(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream sort by length descending: {}", array);
+        logger.debug("Stream sort by length descending: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(Comparator.comparingInt(String::length)
+        StringArray.Builder builder = array.toBuilder()
+                .sort(Comparator.comparingInt(String::length)
                         .reversed()
-                        .thenComparing(Comparator.naturalOrder()))
-                .toArray(String[]::new);
+                        .thenComparing(Comparator.naturalOrder()));
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream sorted by length descending: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream sorted by length descending: {}", result.summary());
         return result;
     }
 
     public StringArray sortByLastElement(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream sort by last element: {}", array);
+        logger.debug("Stream sort by last element: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted((s1, s2) -> {
+        StringArray.Builder builder = array.toBuilder()
+                .sort((s1, s2) -> {
                     char last1 = s1.isEmpty() ? ' ' : s1.charAt(s1.length() - 1);
                     char last2 = s2.isEmpty() ? ' ' : s2.charAt(s2.length() - 1);
                     return Character.compare(last1, last2);
-                })
-                .toArray(String[]::new);
+                });
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream sorted by last element: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream sorted by last element: {}", result.summary());
         return result;
     }
 
     public StringArray sortByAlphabeticalOrder(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream sort by alphabetical order: {}", array);
+        logger.debug("Stream sort by alphabetical order: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(Comparator.naturalOrder())
-                .toArray(String[]::new);
+        StringArray.Builder builder = array.toBuilder()
+                .sort(Comparator.naturalOrder());
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream sorted by alphabetical order: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream sorted by alphabetical order: {}", result.summary());
         return result;
     }
 
     public StringArray sortByVowelCount(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream sort by vowel count: {}", array);
+        logger.debug("Stream sort by vowel count: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(Comparator.comparingInt(this::countVowels)
-                        .thenComparing(Comparator.naturalOrder()))
-                .toArray(String[]::new);
+        StringArray.Builder builder = array.toBuilder()
+                .sort(Comparator.comparingInt(this::countVowels)
+                        .thenComparing(Comparator.naturalOrder()));
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream sorted by vowel count: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream sorted by vowel count: {}", result.summary());
         return result;
     }
 
     public StringArray sortByConsonantCount(StringArray array) throws InvalidArrayException {
-        logger.debug("Stream sort by consonant count: {}", array);
+        logger.debug("Stream sort by consonant count: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(Comparator.comparingInt(this::countConsonants)
-                        .thenComparing(Comparator.naturalOrder()))
-                .toArray(String[]::new);
+        StringArray.Builder builder = array.toBuilder()
+                .sort(Comparator.comparingInt(this::countConsonants)
+                        .thenComparing(Comparator.naturalOrder()));
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream sorted by consonant count: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream sorted by consonant count: {}", result.summary());
         return result;
     }
 
     private int countVowels(String word) {
-        return (int) word.toLowerCase().chars()
-                .filter(c -> "aeiouаеёиоуыэюя".indexOf(c) != -1)
-                .count();
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (profile.isVowel(word.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
     }
 
     private int countConsonants(String word) {
-        return (int) word.toLowerCase().chars()
-                .filter(c -> Character.isLetter(c) && "aeiouаеёиоуыэюя".indexOf(c) == -1)
-                .count();
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (profile.isConsonant(word.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
     }
 
     public StringArray sortWithCustomComparator(StringArray array,
                                                 Comparator<String> customComparator) throws InvalidArrayException {
-        logger.debug("Stream sort with custom comparator: {}", array);
+        logger.debug("Stream sort with custom comparator: {}", array.summary());
 
         if (array.isEmpty()) {
             logger.debug("Empty array - nothing to sort");
             return array;
         }
 
-        String[] sorted = Arrays.stream(array.getArray())
-                .sorted(customComparator)
-                .toArray(String[]::new);
+        StringArray.Builder builder = array.toBuilder()
+                .sort(customComparator);
 
-        StringArray result = ArrayFactory.createFromArray(sorted);
-        logger.debug("Stream sorted with custom comparator: {}", result);
+        StringArray result = ArrayFactory.createFromBuilder(builder, resultMode);
+        logger.debug("Stream sorted with custom comparator: {}", result.summary());
         return result;
     }
 }
\ No newline at end of file
@@ -1,10 +1,27 @@
 package com.filippovich.arrayapp.validation;
 
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
+import com.filippovich.arrayapp.entity.StringArray;
+
 public interface ArrayValidator {
     String WORD_REGEX = "[a-zA-Zа-яА-Я]+";
     String DELIMITER_REGEX = "[,\\s;\\-]+";
 
     boolean validateArray(String[] stringArray);
+    boolean validateArray(StringArray stringArray);
     boolean isValidWordString(String wordString);
     boolean validateLineFormat(String wordsLine);
+
+    default boolean diagnoseLine(String wordsLine, int lineNumber, DiagnosticReport report) {
+        if (wordsLine == null || wordsLine.isBlank()) {
+            report.record(lineNumber, 0, ReasonCode.BLANK_LINE);
+            return false;
+        }
+        if (validateLineFormat(wordsLine)) {
+            return true;
+        }
+        report.record(lineNumber, 0, ReasonCode.NO_VALID_WORD);
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.filippovich.arrayapp.validation;
+
+public final class LexicalProfile {
+    private static final byte LETTER = 1;
+    private static final byte DELIMITER = 2;
+    private static final byte VOWEL = 4;
+
+    public static final LexicalProfile DEFAULT = builder("default")
+            .letters('a', 'z')
+            .letters('A', 'Z')
+            .letters('а', 'я')
+            .letters('А', 'Я')
+            .delimiters(",; -\t\n\u000B\f\r")
+            .vowels("aeiouаеёиоуыэюя")
+            .foldCase('A', 'Z', 'a')
+            .foldCase('А', 'Я', 'а')
+            .foldCase('Ё', 'Ё', 'ё')
+            .build();
+
+    private final String name;
+    private final byte[] classes;
+    private final char[] folding;
+
+    private LexicalProfile(String name, byte[] classes, char[] folding) {
+        this.name = name;
+        this.classes = classes;
+        this.folding = folding;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isLetter(char c) {
+        return c < classes.length && (classes[c] & LETTER) != 0;
+    }
+
+    public boolean isDelimiter(char c) {
+        return c < classes.length && (classes[c] & DELIMITER) != 0;
+    }
+
+    public boolean isVowel(char c) {
+        return c < classes.length && (classes[c] & VOWEL) != 0;
+    }
+
+    public boolean isConsonant(char c) {
+        return c < classes.length && (classes[c] & (LETTER | VOWEL)) == LETTER;
+    }
+
+    public char fold(char c) {
+        return c < folding.length ? folding[c] : c;
+    }
+
+    @Override
+    public String toString() {
+        return "LexicalProfile{name=" + name + ", tableSize=" + classes.length + "}";
+    }
+
+    public static final class Builder {
+        private final String name;
+        private final StringBuilder letters = new StringBuilder();
+        private final StringBuilder delimiters = new StringBuilder();
+        private final StringBuilder vowels = new StringBuilder();
+        private final StringBuilder foldFrom = new StringBuilder();
+        private final StringBuilder foldTo = new StringBuilder();
+
+        private Builder(String name) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Profile name must not be blank");
+            }
+            this.name = name;
+        }
+
+        public Builder letters(char from, char to) {
+            checkRange(from, to);
+            for (int c = from; c <= to; c++) {
+                letters.append((char) c);
+            }
+            return this;
+        }
+
+        public Builder letters(String chars) {
+            letters.append(chars);
+            return this;
+        }
+
+        public Builder delimiters(String chars) {
+            delimiters.append(chars);
+            return this;
+        }
+
+        public Builder vowels(String chars) {
+            vowels.append(chars);
+            return this;
+        }
+
+        public Builder foldCase(char from, char to, char target) {
+            checkRange(from, to);
+            for (int c = from; c <= to; c++) {
+                foldFrom.append((char) c);
+                foldTo.append((char) (target + (c - from)));
+            }
+            return this;
+        }
+
+        public LexicalProfile build() {
+            int tableSize = Math.max(Math.max(maxChar(letters), maxChar(delimiters)),
+                    Math.max(Math.max(maxChar(vowels), maxChar(foldFrom)), maxChar(foldTo))) + 1;
+
+            char[] folding = new char[tableSize];
+            for (int c = 0; c < tableSize; c++) {
+                folding[c] = (char) c;
+            }
+            for (int i = 0; i < foldFrom.length(); i++) {
+                folding[foldFrom.charAt(i)] = foldTo.charAt(i);
+            }
+
+            byte[] classes = new byte[tableSize];
+            for (int i = 0; i < letters.length(); i++) {
+                classes[letters.charAt(i)] |= LETTER;
+            }
+            for (int i = 0; i < delimiters.length(); i++) {
+                char c = delimiters.charAt(i);
+                if ((classes[c] & LETTER) != 0) {
+                    throw new IllegalArgumentException("Character is both a letter and a delimiter: " + c);
+                }
+                classes[c] |= DELIMITER;
+            }
+            for (int i = 0; i < vowels.length(); i++) {
+                classes[vowels.charAt(i)] |= VOWEL;
+            }
+            for (int c = 0; c < tableSize; c++) {
+                if ((classes[folding[c]] & VOWEL) != 0) {
+                    classes[c] |= VOWEL;
+                }
+            }
+
+            return new LexicalProfile(name, classes, folding);
+        }
+
+        private static void checkRange(char from, char to) {
+            if (from > to) {
+                throw new IllegalArgumentException("Invalid character range: " + from + "-" + to);
+            }
+        }
+
+        private static int maxChar(CharSequence chars) {
+            int max = 0;
+            for (int i = 0; i < chars.length(); i++) {
+                max = Math.max(max, chars.charAt(i));
+            }
+            return max;
+        }
+    }
+}
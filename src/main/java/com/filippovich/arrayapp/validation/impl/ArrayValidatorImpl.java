@@ -1,5 +1,6 @@
 package com.filippovich.arrayapp.validation.impl;
 
+import com.filippovich.arrayapp.entity.StringArray;
 import com.filippovich.arrayapp.validation.ArrayValidator;
 
 public final class ArrayValidatorImpl implements ArrayValidator {
@@ -25,6 +26,20 @@ public final class ArrayValidatorImpl implements ArrayValidator {
         return true;
     }
 
+    @Override
+    public boolean validateArray(StringArray stringArray) {
+        if (stringArray == null || stringArray.isEmpty()) {
+            return false;
+        }
+
+        for (String word : stringArray) {
+            if (word == null || word.isBlank() || !isValidWordString(word.trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean isValidWordString(String wordString) {
         return wordString != null && wordString.matches(WORD_REGEX);
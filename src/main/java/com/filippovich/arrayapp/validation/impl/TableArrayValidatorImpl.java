@@ -0,0 +1,122 @@
+package com.filippovich.arrayapp.validation.impl;
+
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.validation.ArrayValidator;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+
+public final class TableArrayValidatorImpl implements ArrayValidator {
+    private final LexicalProfile profile;
+
+    public TableArrayValidatorImpl() {
+        this(LexicalProfile.DEFAULT);
+    }
+
+    public TableArrayValidatorImpl(LexicalProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Lexical profile must not be null");
+        }
+        this.profile = profile;
+    }
+
+    public LexicalProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public boolean validateArray(String[] stringArray) {
+        if (stringArray == null || stringArray.length == 0) {
+            return false;
+        }
+
+        for (String word : stringArray) {
+            if (word == null || !isValidTrimmedWord(word, 0, word.length())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean validateArray(StringArray stringArray) {
+        if (stringArray == null || stringArray.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < stringArray.length(); i++) {
+            String word = stringArray.get(i);
+            if (word == null || !isValidTrimmedWord(word, 0, word.length())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isValidWordString(String wordString) {
+        if (wordString == null || wordString.isEmpty()) {
+            return false;
+        }
+        return isLetters(wordString, 0, wordString.length());
+    }
+
+    @Override
+    public boolean validateLineFormat(String wordsLine) {
+        if (wordsLine == null) {
+            return false;
+        }
+
+        int length = wordsLine.length();
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || profile.isDelimiter(wordsLine.charAt(i))) {
+                if (i > start && isValidTrimmedWord(wordsLine, start, i)) {
+                    return true;
+                }
+                start = i + 1;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean diagnoseLine(String wordsLine, int lineNumber, DiagnosticReport report) {
+        if (validateLineFormat(wordsLine)) {
+            return true;
+        }
+        if (wordsLine == null || wordsLine.isBlank()) {
+            report.record(lineNumber, 0, ReasonCode.BLANK_LINE);
+            return false;
+        }
+
+        for (int i = 0; i < wordsLine.length(); i++) {
+            char c = wordsLine.charAt(i);
+            if (!profile.isLetter(c) && !profile.isDelimiter(c) && c > ' ') {
+                report.record(lineNumber, i + 1, ReasonCode.INVALID_CHARACTER);
+                return false;
+            }
+        }
+        report.record(lineNumber, 0, ReasonCode.NO_VALID_WORD);
+        return false;
+    }
+
+    private boolean isValidTrimmedWord(String text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return start < end && isLetters(text, start, end);
+    }
+
+    private boolean isLetters(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!profile.isLetter(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -6,11 +6,14 @@ import com.filippovich.arrayapp.repository.impl.StringArrayRepositoryImpl;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class ArrayWarehouse implements Observer {
     private static final Logger logger = LogManager.getLogger(ArrayWarehouse.class);
@@ -49,25 +52,51 @@ public class ArrayWarehouse implements Observer {
         }
     }
 
+    @Override
+    public void handleBatchEvent(List<StringArray> arrays, String eventType) {
+        if (arrays == null) return;
+
+        switch (eventType) {
+            case "ADD":
+                logger.debug("Handling batch 'ADD' event for {} arrays", arrays.size());
+                Map<UUID, ArrayStatisticsImpl> calculated = arrays.parallelStream()
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toMap(StringArray::getId, this::calculate, (first, second) -> second));
+                statisticsMap.putAll(calculated);
+                break;
+            case "REMOVE":
+                logger.debug("Handling batch 'REMOVE' event for {} arrays", arrays.size());
+                for (StringArray array : arrays) {
+                    if (array != null) {
+                        statisticsMap.remove(array.getId());
+                    }
+                }
+                break;
+            default:
+                logger.warn("Unknown event type: {}", eventType);
+        }
+    }
+
     private void calculateAndStore(StringArray array) {
+        ArrayStatisticsImpl stats = calculate(array);
+        statisticsMap.put(array.getId(), stats);
+        logger.debug("Calculated and stored stats for array ID {}: {}", array.getId(), stats);
+    }
+
+    private ArrayStatisticsImpl calculate(StringArray array) {
         if (array.isEmpty()) {
-            ArrayStatisticsImpl stats = new ArrayStatisticsImpl(0, 0, 0, 0, 0);
-            statisticsMap.put(array.getId(), stats);
-            logger.debug("Stored empty stats for array ID: {}", array.getId());
-            return;
+            return new ArrayStatisticsImpl(0, 0, 0, 0, 0);
         }
 
-        String[] strings = array.getArray();
+        IntSummaryStatistics lengths = array.wordLengths().summaryStatistics();
 
-        int totalChars = Arrays.stream(strings).mapToInt(String::length).sum();
-        double avgLength = Arrays.stream(strings).mapToInt(String::length).average().orElse(0.0);
-        int maxLength = Arrays.stream(strings).mapToInt(String::length).max().orElse(0);
-        int minLength = Arrays.stream(strings).mapToInt(String::length).min().orElse(0);
-        int count = strings.length;
+        int totalChars = (int) lengths.getSum();
+        double avgLength = lengths.getAverage();
+        int maxLength = lengths.getMax();
+        int minLength = lengths.getMin();
+        int count = (int) lengths.getCount();
 
-        ArrayStatisticsImpl stats = new ArrayStatisticsImpl(avgLength, totalChars, maxLength, minLength, count);
-        statisticsMap.put(array.getId(), stats);
-        logger.debug("Calculated and stored stats for array ID {}: {}", array.getId(), stats);
+        return new ArrayStatisticsImpl(avgLength, totalChars, maxLength, minLength, count);
     }
 
     public Optional<ArrayStatisticsImpl> getStatistics(UUID arrayId) {
@@ -4,8 +4,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import static org.junit.jupiter.api.Assertions.*;
 import com.filippovich.arrayapp.entity.StringArray;
-
+import com.filippovich.arrayapp.entity.StringArraySummary;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class StringArrayTest {
 
@@ -218,4 +227,181 @@ public class StringArrayTest {
         assertEquals("", array.getArray()[1]);
         assertEquals("", array.getArray()[2]);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGet() {
+        assertEquals("apple", stringArray.get(0));
+        assertEquals("cherry", stringArray.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stringArray.get(3));
+    }
+
+    @Test
+    void testAsListIsUnmodifiableView() {
+        List<String> view = stringArray.asList();
+        assertEquals(List.of("apple", "banana", "cherry"), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, "modified"));
+        assertThrows(UnsupportedOperationException.class, () -> view.add("modified"));
+        assertTrue(emptyArray.asList().isEmpty());
+    }
+
+    @Test
+    void testIteratorIsReadOnly() {
+        Iterator<String> iterator = stringArray.iterator();
+        assertEquals("apple", iterator.next());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testForEach() {
+        List<String> visited = new ArrayList<>();
+        stringArray.forEach(visited::add);
+        assertEquals(List.of("apple", "banana", "cherry"), visited);
+    }
+
+    @Test
+    void testStream() {
+        assertEquals(List.of("apple", "banana", "cherry"), stringArray.stream().collect(Collectors.toList()));
+        assertEquals(0, emptyArray.stream().count());
+        assertTrue(stringArray.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+    }
+
+    @Test
+    void testFingerprintDependsOnlyOnContent() {
+        StringArray sameContent = new StringArray(testData);
+        StringArray packed = new StringArray(testData, StorageMode.PACKED);
+
+        assertEquals(stringArray.fingerprint(), sameContent.fingerprint());
+        assertEquals(stringArray.fingerprint(), packed.fingerprint());
+        assertEquals(stringArray.fingerprint(), stringArray.fingerprint());
+    }
+
+    @Test
+    void testFingerprintDistinguishesWordBoundariesAndNulls() {
+        StringArray joined = new StringArray(new String[]{"ab", "c"});
+        StringArray split = new StringArray(new String[]{"a", "bc"});
+        StringArray withNull = new StringArray(new String[]{"a", null});
+        StringArray withEmpty = new StringArray(new String[]{"a", ""});
+
+        assertNotEquals(joined.fingerprint(), split.fingerprint());
+        assertNotEquals(withNull.fingerprint(), withEmpty.fingerprint());
+    }
+
+    @Test
+    void testContentEquals() {
+        StringArray sameContent = new StringArray(testData);
+        StringArray otherContent = new StringArray(new String[]{"apple", "banana", "date"});
+
+        assertTrue(stringArray.contentEquals(sameContent));
+        assertTrue(stringArray.contentEquals(new StringArray(testData, StorageMode.PACKED)));
+        assertFalse(stringArray.contentEquals(otherContent));
+        assertFalse(stringArray.contentEquals(emptyArray));
+        assertFalse(stringArray.contentEquals(null));
+        assertFalse(stringArray.equals(sameContent));
+    }
+
+    @Test
+    void testBuilderAppendSetAndBuild() {
+        StringArray.Builder builder = StringArray.builder(1)
+                .append("cherry")
+                .append("apple")
+                .append("banana")
+                .set(0, "date");
+
+        assertEquals(3, builder.size());
+        assertEquals("apple", builder.get(1));
+
+        StringArray built = builder.build();
+        assertArrayEquals(new String[]{"date", "apple", "banana"}, built.getArray());
+        assertThrows(IllegalStateException.class, () -> builder.append("late"));
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    @Test
+    void testBuilderSort() {
+        StringArray sorted = stringArray.toBuilder()
+                .sort(Comparator.reverseOrder())
+                .build();
+
+        assertArrayEquals(new String[]{"cherry", "banana", "apple"}, sorted.getArray());
+        assertArrayEquals(testData, stringArray.getArray());
+    }
+
+    @Test
+    void testBuilderSortInPlaceSeesExactSize() {
+        StringArray.Builder builder = StringArray.builder(10).append("b").append("a");
+        builder.sortInPlace(words -> {
+            assertEquals(2, words.length);
+            Arrays.sort(words);
+        });
+
+        assertArrayEquals(new String[]{"a", "b"}, builder.build().getArray());
+    }
+
+    @Test
+    void testBuilderSortInPlaceBufferCannotChangeBuiltArray() {
+        String[][] leaked = new String[1][];
+        StringArray built = StringArray.builder().append("b").append("a")
+                .sortInPlace(words -> {
+                    Arrays.sort(words);
+                    leaked[0] = words;
+                })
+                .build();
+
+        leaked[0][0] = "!!!";
+        assertArrayEquals(new String[]{"a", "b"}, built.getArray());
+    }
+
+    @Test
+    void testBuilderSortInPlaceAfterBuildThrows() {
+        StringArray.Builder builder = StringArray.builder().append("a");
+        builder.build();
+        assertThrows(IllegalStateException.class, () -> builder.sortInPlace(Arrays::sort));
+    }
+
+    @Test
+    void testBuilderWithStorageMode() {
+        StringArray packed = stringArray.toBuilder().build(StorageMode.PACKED);
+        assertTrue(packed.contentEquals(stringArray));
+    }
+
+    @Test
+    void testBuilderRejectsInvalidIndexAndCapacity() {
+        StringArray.Builder builder = StringArray.builder().append("one");
+        assertThrows(IndexOutOfBoundsException.class, () -> builder.set(1, "two"));
+        assertThrows(IllegalArgumentException.class, () -> StringArray.builder(-1));
+    }
+
+    @Test
+    void testSummaryWithinLimit() {
+        String summary = stringArray.summary().toString();
+        assertEquals("StringArray{id=" + stringArray.getId() + ", size=3, array=[apple, banana, cherry]}", summary);
+    }
+
+    @Test
+    void testSummaryTruncatesToLimit() {
+        StringBuilder sb = new StringBuilder("prefix:");
+        stringArray.summary(2).formatTo(sb);
+
+        assertTrue(sb.toString().startsWith("prefix:StringArray{"));
+        assertTrue(sb.toString().endsWith("size=3, array=[apple, banana, ... +1 more]}"));
+        assertTrue(stringArray.summary(0).toString().endsWith("array=[... +3 more]}"));
+    }
+
+    @Test
+    void testSummaryDefaultLimitIsConfigurable() {
+        int previous = StringArraySummary.getDefaultLimit();
+        try {
+            StringArraySummary.setDefaultLimit(1);
+            assertTrue(stringArray.summary().toString().endsWith("array=[apple, ... +2 more]}"));
+            assertThrows(IllegalArgumentException.class, () -> StringArraySummary.setDefaultLimit(-1));
+        } finally {
+            StringArraySummary.setDefaultLimit(previous);
+        }
+    }
+
+    @Test
+    void testSummaryOfRawArray() {
+        assertEquals("StringArray{size=2, array=[one, two]}", StringArraySummary.of(new String[]{"one", "two"}).toString());
+        assertEquals("StringArray{size=0, array=[]}", StringArraySummary.of(null).toString());
+    }
+}
@@ -0,0 +1,80 @@
+package test.java.com.filippovich.arrayapp.entity.storage;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+import com.filippovich.arrayapp.entity.storage.impl.ArrayWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.ByteWordStorage;
+import com.filippovich.arrayapp.service.impl.ArrayServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteWordStorageTest {
+
+    private final String[] words = {"Zebra", "apple", "Яблоко", "банан", "Ёж"};
+
+    @Test
+    void testCanEncode() {
+        assertTrue(ByteWordStorage.canEncode(new String[]{"hello", "Привет", null}));
+        assertFalse(ByteWordStorage.canEncode(new String[]{"hello", "ёжик"}));
+        assertFalse(ByteWordStorage.canEncode(new String[]{"hello1"}));
+        assertThrows(IllegalArgumentException.class, () -> ByteWordStorage.of(new String[]{"äpfel"}));
+    }
+
+    @Test
+    void testReadsBackOriginalWords() {
+        String[] encodable = {"Zebra", "apple", "Яблоко", "банан", ""};
+        ByteWordStorage storage = ByteWordStorage.of(encodable);
+
+        assertArrayEquals(encodable, storage.toArray());
+        assertEquals(6, storage.wordLength(2));
+        assertEquals('Я', storage.charAt(2, 0));
+        assertEquals('н', storage.charAt(3, 4));
+        assertEquals(21, storage.totalCharacters());
+    }
+
+    @Test
+    void testCompareIgnoreCaseMatchesString() {
+        String[] encodable = {"Zebra", "apple", "Apple", "APPLES", "Яблоко", "яблоко", "банан", "b"};
+        ByteWordStorage bytes = ByteWordStorage.of(encodable);
+        ArrayWordStorage strings = new ArrayWordStorage(encodable);
+
+        for (int i = 0; i < encodable.length; i++) {
+            for (int j = 0; j < encodable.length; j++) {
+                assertEquals(Integer.signum(strings.compareIgnoreCase(i, j)),
+                        Integer.signum(bytes.compareIgnoreCase(i, j)),
+                        encodable[i] + " vs " + encodable[j]);
+            }
+        }
+    }
+
+    @Test
+    void testByteModeFallsBackForNonEncodableWords() {
+        StringArray array = new StringArray(words, StorageMode.BYTE);
+        assertArrayEquals(words, array.getArray());
+    }
+
+    @Test
+    void testFootprintSmallerThanPackedForCyrillic() {
+        String[] cyrillic = new String[1000];
+        for (int i = 0; i < cyrillic.length; i++) {
+            cyrillic[i] = "слово" + (char) ('а' + i % 32);
+        }
+
+        long packed = new StringArray(cyrillic, StorageMode.PACKED).estimatedFootprint();
+        long bytes = new StringArray(cyrillic, StorageMode.BYTE).estimatedFootprint();
+        assertTrue(bytes < packed, "bytes=" + bytes + " packed=" + packed);
+    }
+
+    @Test
+    void testServicesOnByteStorage() {
+        StringArray array = new StringArray(new String[]{"Zebra", "apple", "Яблоко", "банан", "ящик"},
+                StorageMode.BYTE);
+        ArrayServiceImpl service = new ArrayServiceImpl();
+
+        assertEquals("apple", service.findFirstAlphabetically(array));
+        assertEquals("ящик", service.findLastAlphabetically(array));
+        assertEquals(2, service.countWordsStartingWith(array, 'я'));
+        assertEquals(1, service.countWordsEndingWith(array, 'Н'));
+    }
+}
@@ -0,0 +1,83 @@
+package test.java.com.filippovich.arrayapp.entity.storage;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+import com.filippovich.arrayapp.entity.storage.impl.DictionaryWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.WordDictionary;
+import com.filippovich.arrayapp.exception.InvalidArrayException;
+import com.filippovich.arrayapp.service.impl.ArrayServiceImpl;
+import com.filippovich.arrayapp.service.impl.ArrayStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryWordStorageTest {
+
+    private WordDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = WordDictionary.getInstance();
+        dictionary.resetStatistics();
+    }
+
+    @Test
+    void testSameWordSharesCode() {
+        int first = dictionary.encode("dictionaryword");
+        int second = dictionary.encode("dictionaryword");
+
+        assertEquals(first, second);
+        assertEquals("dictionaryword", dictionary.decode(first));
+        assertEquals(first, dictionary.lookup("dictionaryword"));
+        assertEquals(WordDictionary.NO_CODE, dictionary.lookup("neverencodedword"));
+        assertEquals(1, dictionary.getHits());
+        assertEquals(0.5, dictionary.getHitRatio(), 1e-9);
+    }
+
+    @Test
+    void testDecodedWordsAreShared() {
+        StringArray first = new StringArray(new String[]{"shared", "words"}, StorageMode.DICTIONARY);
+        StringArray second = new StringArray(new String[]{"words", "shared"}, StorageMode.DICTIONARY);
+
+        assertSame(first.get(0), second.get(1));
+        assertArrayEquals(new String[]{"shared", "words"}, first.getArray());
+        assertEquals(11, first.totalCharacters());
+    }
+
+    @Test
+    void testNullElements() {
+        DictionaryWordStorage storage = DictionaryWordStorage.of(new String[]{"one", null}, dictionary);
+
+        assertFalse(storage.isNull(0));
+        assertTrue(storage.isNull(1));
+        assertNull(storage.get(1));
+    }
+
+    @Test
+    void testReplaceWordsOnCodes() throws InvalidArrayException {
+        StringArray array = new StringArray(new String[]{"cat", "dog", "cat", "bird"}, StorageMode.DICTIONARY);
+
+        StringArray replaced = new ArrayServiceImpl().replaceWords(array, "cat", "lion");
+        assertArrayEquals(new String[]{"lion", "dog", "lion", "bird"}, replaced.getArray());
+
+        StringArray unchanged = new ArrayStreamService().replaceWords(array, "absentword", "lion");
+        assertArrayEquals(array.getArray(), unchanged.getArray());
+    }
+
+    @Test
+    void testUniqueWordsOnCodes() {
+        StringArray array = new StringArray(new String[]{"cat", "dog", "cat", "bird", "dog"}, StorageMode.DICTIONARY);
+
+        assertArrayEquals(new String[]{"cat", "dog", "bird"}, new ArrayStreamService().getUniqueWords(array));
+    }
+
+    @Test
+    void testDistinctIndexesKeepFirstOccurrenceIncludingNull() {
+        DictionaryWordStorage storage =
+                DictionaryWordStorage.of(new String[]{"cat", null, "dog", "cat", null, "dog", "bird"}, dictionary);
+
+        assertArrayEquals(new int[]{0, 1, 2, 6}, storage.distinctIndexes());
+        assertEquals(0, DictionaryWordStorage.of(new String[0], dictionary).distinctIndexes().length);
+    }
+}
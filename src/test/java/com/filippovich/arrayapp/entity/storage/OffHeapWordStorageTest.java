@@ -0,0 +1,99 @@
+package test.java.com.filippovich.arrayapp.entity.storage;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+import com.filippovich.arrayapp.entity.storage.impl.OffHeapWordStorage;
+import com.filippovich.arrayapp.exception.InvalidArrayException;
+import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.repository.impl.StringArrayRepositoryImpl;
+import com.filippovich.arrayapp.service.impl.ArrayServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapWordStorageTest {
+
+    private final String[] words = {"apple", "банан", "kiwi"};
+
+    @AfterEach
+    void tearDown() {
+        StringArrayRepositoryImpl.getInstance().clear();
+    }
+
+    @Test
+    void testReadsBackOriginalWords() {
+        OffHeapWordStorage storage = OffHeapWordStorage.of(words);
+
+        assertEquals(3, storage.size());
+        assertArrayEquals(words, storage.toArray());
+        assertEquals(5, storage.wordLength(1));
+        assertEquals('б', storage.charAt(1, 0));
+        assertEquals(14, storage.totalCharacters());
+        assertEquals(2L * 14 + 4L * 4, storage.offHeapBytes());
+    }
+
+    @Test
+    void testNullElements() {
+        OffHeapWordStorage storage = OffHeapWordStorage.of(new String[]{null, "second"});
+
+        assertTrue(storage.isNull(0));
+        assertNull(storage.get(0));
+        assertEquals("second", storage.get(1));
+    }
+
+    @Test
+    void testReleasedStorageRejectsReads() {
+        OffHeapWordStorage storage = OffHeapWordStorage.of(words);
+        storage.release();
+
+        assertTrue(storage.isReleased());
+        assertEquals(0, storage.offHeapBytes());
+        assertThrows(IllegalStateException.class, () -> storage.get(0));
+    }
+
+    @Test
+    void testServicesWorkOnOffHeapArrays() {
+        StringArray array = new StringArray(words, StorageMode.OFF_HEAP);
+        ArrayServiceImpl service = new ArrayServiceImpl();
+
+        assertEquals("kiwi", service.findShortestWord(array));
+        assertEquals(14, service.calculateTotalCharacters(array));
+        assertEquals(1, service.countWordsStartingWith(array, 'Б'));
+        assertTrue(array.contentEquals(new StringArray(words)));
+    }
+
+    @Test
+    void testRepositoryReleasesOnRemoveAndClear() throws InvalidArrayException {
+        StringArrayRepositoryImpl repository = StringArrayRepositoryImpl.getInstance();
+        StringArray removed = ArrayFactory.createFromArray(words, StorageMode.OFF_HEAP);
+        StringArray cleared = ArrayFactory.createFromArray(words, StorageMode.OFF_HEAP);
+
+        assertTrue(repository.remove(removed));
+        assertThrows(IllegalStateException.class, () -> removed.get(0));
+        assertEquals("apple", cleared.get(0));
+
+        repository.clear();
+        assertThrows(IllegalStateException.class, () -> cleared.get(0));
+    }
+
+    @Test
+    void testRemovingCanonicalArrayFreesItsStorageAfterHits() throws InvalidArrayException {
+        StringArrayRepositoryImpl repository = StringArrayRepositoryImpl.getInstance();
+        ArrayFactory.getCanonicalIndex().clear();
+        StringArray first = ArrayFactory.createCanonical(words, StorageMode.OFF_HEAP);
+        StringArray second = ArrayFactory.createCanonical(words, StorageMode.OFF_HEAP);
+        assertSame(first, second);
+
+        assertTrue(repository.remove(first));
+        assertTrue(first.isReleased());
+        assertThrows(IllegalStateException.class, () -> second.get(0));
+
+        StringArray third = ArrayFactory.createCanonical(words, StorageMode.OFF_HEAP);
+        assertNotSame(first, third);
+        assertEquals("apple", third.get(0));
+        repository.clear();
+        assertTrue(third.isReleased());
+        assertThrows(IllegalStateException.class, () -> third.get(0));
+    }
+}
@@ -0,0 +1,73 @@
+package test.java.com.filippovich.arrayapp.entity.storage;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+import com.filippovich.arrayapp.entity.storage.impl.ArrayWordStorage;
+import com.filippovich.arrayapp.entity.storage.impl.PackedWordStorage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedWordStorageTest {
+
+    private final String[] words = {"apple", "banana", "", "яблоко", "kiwi"};
+
+    @Test
+    void testReadsBackOriginalWords() {
+        PackedWordStorage storage = PackedWordStorage.of(words);
+
+        assertEquals(words.length, storage.size());
+        for (int i = 0; i < words.length; i++) {
+            assertEquals(words[i], storage.get(i));
+            assertEquals(words[i].length(), storage.wordLength(i));
+        }
+        assertArrayEquals(words, storage.toArray());
+    }
+
+    @Test
+    void testTotalCharactersUsesOffsets() {
+        PackedWordStorage storage = PackedWordStorage.of(words);
+        assertEquals(21, storage.totalCharacters());
+    }
+
+    @Test
+    void testNullElements() {
+        PackedWordStorage storage = PackedWordStorage.of(new String[]{"first", null, "third"});
+
+        assertEquals("first", storage.get(0));
+        assertNull(storage.get(1));
+        assertEquals("third", storage.get(2));
+        assertThrows(NullPointerException.class, () -> storage.wordLength(1));
+    }
+
+    @Test
+    void testIndexOutOfBounds() {
+        PackedWordStorage storage = PackedWordStorage.of(words);
+        assertThrows(IndexOutOfBoundsException.class, () -> storage.get(words.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> storage.get(-1));
+    }
+
+    @Test
+    void testPackedStringArrayMatchesArrayStorage() {
+        StringArray packed = new StringArray(words, StorageMode.PACKED);
+        StringArray regular = new StringArray(words);
+
+        assertEquals(regular.asList(), packed.asList());
+        assertEquals(regular.totalCharacters(), packed.totalCharacters());
+        assertArrayEquals(regular.wordLengths().toArray(), packed.wordLengths().toArray());
+    }
+
+    @Test
+    void testFootprintSmallerThanArrayStorage() {
+        String[] manyWords = new String[10_000];
+        for (int i = 0; i < manyWords.length; i++) {
+            manyWords[i] = "word" + (char) ('a' + i % 26);
+        }
+
+        long arrayFootprint = new ArrayWordStorage(manyWords).estimatedFootprint();
+        long packedFootprint = PackedWordStorage.of(manyWords).estimatedFootprint();
+
+        assertTrue(packedFootprint * 2 < arrayFootprint,
+                "packed=" + packedFootprint + " array=" + arrayFootprint);
+    }
+}
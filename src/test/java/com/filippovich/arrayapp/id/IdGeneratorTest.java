@@ -0,0 +1,121 @@
+package test.java.com.filippovich.arrayapp.id;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.id.IdGenerator;
+import com.filippovich.arrayapp.id.impl.SequenceIdGenerator;
+import com.filippovich.arrayapp.id.impl.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 10_000;
+
+    private final IdGenerator defaultGenerator = StringArray.getIdGenerator();
+
+    @AfterEach
+    void tearDown() {
+        StringArray.setIdGenerator(defaultGenerator);
+    }
+
+    @Test
+    void testTimeOrderedIdHasVersionAndVariant() {
+        UUID id = new TimeOrderedIdGenerator().nextId();
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void testTimeOrderedIdsFollowCreationTime() throws InterruptedException {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        UUID earlier = generator.nextId();
+        Thread.sleep(2);
+        UUID later = generator.nextId();
+        assertTrue(earlier.compareTo(later) < 0);
+    }
+
+    @Test
+    void testTimeOrderedIdsAreMonotonicWithinSameMillisecond() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.nextId();
+            assertTrue(previous.compareTo(next) < 0);
+            assertEquals(7, next.version());
+            previous = next;
+        }
+    }
+
+    @Test
+    void testSequenceGeneratorsCreatedTogetherDoNotCollide() {
+        SequenceIdGenerator first = new SequenceIdGenerator();
+        SequenceIdGenerator second = new SequenceIdGenerator();
+        assertNotEquals(first.nextId(), second.nextId());
+    }
+
+    @Test
+    void testSequenceIdsAreMonotonicWithinThread() {
+        SequenceIdGenerator generator = new SequenceIdGenerator(16);
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 100; i++) {
+            UUID next = generator.nextId();
+            assertTrue(previous.compareTo(next) < 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testSequenceRejectsNonPositiveBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SequenceIdGenerator(0));
+    }
+
+    @Test
+    void testGeneratorsProduceUniqueIdsAcrossThreads() throws Exception {
+        assertUniqueAcrossThreads(new TimeOrderedIdGenerator());
+        assertUniqueAcrossThreads(new SequenceIdGenerator());
+        assertUniqueAcrossThreads(new SequenceIdGenerator(1));
+    }
+
+    @Test
+    void testStringArrayUsesConfiguredGenerator() {
+        StringArray.setIdGenerator(new SequenceIdGenerator(1));
+        StringArray first = new StringArray(new String[]{"first"});
+        StringArray second = new StringArray(new String[]{"second"});
+
+        assertEquals(first.getId().getLeastSignificantBits() + 1, second.getId().getLeastSignificantBits());
+        assertThrows(IllegalArgumentException.class, () -> StringArray.setIdGenerator(null));
+    }
+
+    private void assertUniqueAcrossThreads(IdGenerator generator) throws Exception {
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+}
@@ -1,8 +1,17 @@
 package test.java.com.filippovich.arrayapp.parser;
 
+import com.filippovich.arrayapp.parser.TokenCursor;
 import com.filippovich.arrayapp.parser.impl.ArrayParserImpl;
+import com.filippovich.arrayapp.parser.impl.ParallelArrayParserImpl;
+import com.filippovich.arrayapp.validation.impl.ArrayValidatorImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ArrayParserTest {
@@ -171,4 +180,93 @@ public class ArrayParserTest {
         assertEquals("world", result[1]);
         assertEquals("test", result[2]);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseStringToArray_MatchesRegexSplitForMixedDelimiters() {
+        char[] alphabet = {'a', 'Z', 'я', 'Б', 'ё', '1', '_', '@', ',', ';', '-', ' ', '\t', '\n', '\r', '\u0001'};
+        Random random = new Random(42);
+        for (int n = 0; n < 5000; n++) {
+            StringBuilder line = new StringBuilder();
+            int length = random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                line.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String input = line.toString();
+            assertArrayEquals(parseWithRegex(input), arrayParser.parseStringToArray(input), "Input: '" + input + "'");
+        }
+    }
+
+    @Test
+    void testTokenize_ReportsOffsetsWithoutMaterializing() {
+        String input = " hello, мир ;bad1; x-ray ";
+        TokenCursor cursor = arrayParser.tokenize(input);
+
+        assertEquals(4, cursor.count());
+        assertTrue(cursor.next());
+        assertEquals(1, cursor.start());
+        assertEquals(6, cursor.end());
+        assertEquals(5, cursor.length());
+        assertEquals('h', cursor.firstChar());
+        assertEquals('o', cursor.lastChar());
+        assertTrue(cursor.next());
+        assertEquals("мир", cursor.token());
+        assertTrue(cursor.next());
+        assertEquals("x", cursor.token());
+        assertTrue(cursor.next());
+        assertEquals('y', cursor.charAt(2));
+        assertFalse(cursor.next());
+        assertThrows(NoSuchElementException.class, cursor::start);
+    }
+
+    @Test
+    void testTokenize_ReusesCursorAcrossLines() {
+        TokenCursor cursor = new TokenCursor(1);
+
+        assertEquals(3, arrayParser.countWords("one two three", cursor));
+        assertArrayEquals(new String[]{"one", "two", "three"}, cursor.toArray());
+
+        StringBuilder buffer = new StringBuilder("four;five");
+        arrayParser.tokenize(buffer, cursor);
+        assertEquals(2, cursor.count());
+        assertArrayEquals(new String[]{"four", "five"}, cursor.toArray());
+
+        arrayParser.tokenize(null, cursor);
+        assertEquals(0, cursor.count());
+    }
+
+    @Test
+    void testParallelParser_MatchesScalarParserOnHugeLines() {
+        char[] alphabet = {'a', 'b', 'Z', 'я', 'Б', '1', ',', ';', '-', ' ', '\t', '\u0001'};
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelArrayParserImpl parallelParser = new ParallelArrayParserImpl(1, pool);
+            Random random = new Random(11);
+            for (int n = 0; n < 5; n++) {
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < 200_000; i++) {
+                    line.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                String input = line.toString();
+                assertArrayEquals(arrayParser.parseStringToArray(input), parallelParser.parseStringToArray(input));
+            }
+            assertArrayEquals(new String[]{"short", "line"}, parallelParser.parseStringToArray("short line"));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private String[] parseWithRegex(String line) {
+        if (line.isBlank()) {
+            return new String[0];
+        }
+        ArrayValidatorImpl validator = new ArrayValidatorImpl();
+        List<String> words = new ArrayList<>();
+        for (String part : line.split(ArrayValidatorImpl.DELIMITER_REGEX)) {
+            String trimmedPart = part.trim();
+            if (!trimmedPart.isEmpty() && validator.isValidWordString(trimmedPart)) {
+                words.add(trimmedPart);
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+}
@@ -1,22 +1,58 @@
 package test.java.com.filippovich.arrayapp.reader;
 
+import com.filippovich.arrayapp.diagnostic.Diagnostic;
+import com.filippovich.arrayapp.diagnostic.DiagnosticReport;
+import com.filippovich.arrayapp.diagnostic.ReasonCode;
 import com.filippovich.arrayapp.exception.FileReadException;
+import com.filippovich.arrayapp.parser.ValidatedWords;
+import com.filippovich.arrayapp.reader.LineIterator;
 import com.filippovich.arrayapp.reader.impl.ArrayFileReaderImpl;
+import com.filippovich.arrayapp.reader.impl.MappedArrayFileReaderImpl;
+import com.filippovich.arrayapp.reader.impl.ParallelArrayFileReaderImpl;
+import com.filippovich.arrayapp.reader.impl.TailArrayFileReaderImpl;
+import com.filippovich.arrayapp.validation.LexicalProfile;
 import org.junit.After;
+import org.junit.AfterClass;
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.*;
 import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.Assert.*;
 
 public class ArrayFileReaderTest {
 
+    private static ForkJoinPool pool;
+
     private ArrayFileReaderImpl arrayFileReader;
     private File testFile;
 
+    @BeforeClass
+    public static void setUpPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownPool() {
+        pool.shutdown();
+    }
+
     @Before
     public void setUp() throws Exception {
         testFile = File.createTempFile("test_data", ".txt");
@@ -218,4 +254,383 @@ public class ArrayFileReaderTest {
         assertTrue("Should contain hello", result.contains("hello"));
         assertTrue("Should contain world,earth", result.contains("world,earth"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReadValidLinesFromFile_CollectsDiagnostics() throws Exception {
+        writeToTestFile("apple,banana\n" +
+                "\n" +
+                "123, 456\n" +
+                ",,;\n" +
+                "word1,word2\n");
+
+        List<String> result = arrayFileReader.readValidLinesFromFile();
+        DiagnosticReport report = arrayFileReader.getLastReport();
+
+        assertEquals(4, result.size());
+        assertEquals(4, report.getTotal());
+        assertEquals(1, report.count(ReasonCode.BLANK_LINE));
+        assertEquals(2, report.count(ReasonCode.INVALID_CHARACTER));
+        assertEquals(1, report.count(ReasonCode.NO_VALID_WORD));
+        assertEquals(new Diagnostic(3, 1, ReasonCode.INVALID_CHARACTER), report.getDiagnostics().get(1));
+        assertEquals(new Diagnostic(5, 5, ReasonCode.INVALID_CHARACTER), report.getDiagnostics().get(3));
+    }
+
+    @Test
+    public void testDiagnosticReport_IsBoundedAndMergeable() {
+        DiagnosticReport first = new DiagnosticReport(2);
+        DiagnosticReport second = new DiagnosticReport(2);
+        for (int i = 1; i <= 3; i++) {
+            first.record(i, 0, ReasonCode.BLANK_LINE);
+            second.record(i, 2, ReasonCode.INVALID_CHARACTER);
+        }
+
+        assertEquals(2, first.getDiagnostics().size());
+        assertEquals(1, first.getDropped());
+
+        first.merge(second);
+        assertEquals(6, first.getTotal());
+        assertEquals(3, first.count(ReasonCode.INVALID_CHARACTER));
+        assertEquals(2, first.getDiagnostics().size());
+        assertEquals(4, first.getDropped());
+    }
+
+    @Test
+    public void testDiagnosticReport_CrossMergeDoesNotDeadlock() throws InterruptedException {
+        DiagnosticReport first = new DiagnosticReport();
+        DiagnosticReport second = new DiagnosticReport();
+        Thread forward = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                first.merge(second);
+            }
+        });
+        Thread backward = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                second.merge(first);
+            }
+        });
+        forward.setDaemon(true);
+        backward.setDaemon(true);
+
+        forward.start();
+        backward.start();
+        forward.join(10_000);
+        backward.join(10_000);
+
+        assertFalse(forward.isAlive());
+        assertFalse(backward.isAlive());
+    }
+
+    @Test
+    public void testMappedReader_MatchesBufferedReaderForAnyWindowSize() throws Exception {
+        writeToTestFile("apple,banana\r\n" +
+                "  \n" +
+                "яблоко груша\r" +
+                "\r\n" +
+                "a-very-long-line-that-spans-several-windows, word\n" +
+                "123, 456\n" +
+                "last line without terminator");
+        List<String> expected = arrayFileReader.readValidLinesFromFile();
+        long expectedDiagnostics = arrayFileReader.getLastReport().getTotal();
+
+        for (int windowSize = 1; windowSize <= 64; windowSize++) {
+            MappedArrayFileReaderImpl mappedReader =
+                    new MappedArrayFileReaderImpl(testFile.getAbsolutePath(), windowSize);
+            assertEquals("Window size " + windowSize, expected, mappedReader.readValidLinesFromFile());
+            assertEquals(expectedDiagnostics, mappedReader.getLastReport().getTotal());
+        }
+        assertEquals(expected, new MappedArrayFileReaderImpl(testFile.getAbsolutePath()).readValidLinesFromFile());
+    }
+
+    @Test
+    public void testAllReaders_DecodeNonAsciiWithExplicitCharset() throws Exception {
+        String content = "яблоко, груша\nмир\r\nёлка word\n";
+        List<String> expected = Arrays.asList("яблоко, груша", "мир", "ёлка word");
+
+        for (Charset charset : Arrays.asList(StandardCharsets.UTF_8, Charset.forName("windows-1251"))) {
+            Files.write(testFile.toPath(), content.getBytes(charset));
+            String path = testFile.getAbsolutePath();
+
+            assertEquals(charset.name(), expected, new ArrayFileReaderImpl(path, charset).readValidLinesFromFile());
+            assertEquals(charset.name(), expected, new MappedArrayFileReaderImpl(path, charset).readValidLinesFromFile());
+            assertEquals(charset.name(), expected, new ParallelArrayFileReaderImpl(path, charset).readValidLinesFromFile());
+        }
+    }
+
+    @Test
+    public void testAllReaders_AgreeOnControlCharacterLines() throws Exception {
+        writeToTestFile("apple\n\u0001\n\u001F \t\nbanana\n");
+        String path = testFile.getAbsolutePath();
+
+        List<String> expected = arrayFileReader.readValidLinesFromFile();
+        assertEquals(Arrays.asList("apple", "", "banana"), expected);
+        MappedArrayFileReaderImpl mapped = new MappedArrayFileReaderImpl(path);
+        assertEquals(expected, mapped.readValidLinesFromFile());
+        assertEquals(arrayFileReader.getLastReport().getDiagnostics(), mapped.getLastReport().getDiagnostics());
+        assertEquals(expected, new ParallelArrayFileReaderImpl(path).readValidLinesFromFile());
+        try (TailArrayFileReaderImpl tail = new TailArrayFileReaderImpl(path)) {
+            assertEquals(expected, tail.poll());
+        }
+    }
+
+    @Test
+    public void testAllReaders_ValidateWithTenantProfile() throws Exception {
+        LexicalProfile greek = LexicalProfile.builder("greek")
+                .letters('α', 'ω')
+                .delimiters(" ,")
+                .build();
+        Charset utf8 = StandardCharsets.UTF_8;
+        Files.write(testFile.toPath(), "λογος, αει\napple\nσκψ\n".getBytes(utf8));
+        String path = testFile.getAbsolutePath();
+
+        ArrayFileReaderImpl buffered = new ArrayFileReaderImpl(path, utf8, greek);
+        MappedArrayFileReaderImpl mapped = new MappedArrayFileReaderImpl(path, utf8, greek);
+        ParallelArrayFileReaderImpl parallel = new ParallelArrayFileReaderImpl(path, utf8, greek);
+        List<String> lines = Arrays.asList("λογος, αει", "apple", "σκψ");
+
+        assertEquals(lines, buffered.readValidLinesFromFile());
+        assertEquals(lines, mapped.readValidLinesFromFile());
+        assertEquals(lines, parallel.readValidLinesFromFile());
+        assertEquals(1, buffered.getLastReport().getTotal());
+        assertEquals(buffered.getLastReport().getDiagnostics(), mapped.getLastReport().getDiagnostics());
+        assertEquals(buffered.getLastReport().getDiagnostics(), parallel.getLastReport().getDiagnostics());
+        assertEquals(2, buffered.getLastReport().getDiagnostics().get(0).lineNumber());
+        assertEquals("λογος", parallel.readValidatedWordsFromFile().get(0).get(0));
+
+        try (TailArrayFileReaderImpl tail = new TailArrayFileReaderImpl(path, 10, utf8, greek)) {
+            assertEquals(lines, tail.poll());
+            assertEquals(buffered.getLastReport().getDiagnostics(), tail.getLastReport().getDiagnostics());
+        }
+
+        ArrayFileReaderImpl byDefault = new ArrayFileReaderImpl(path, utf8);
+        byDefault.readValidLinesFromFile();
+        assertEquals(2, byDefault.getLastReport().getTotal());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMappedReader_RejectsCharsetWithMultiByteTerminators() {
+        new MappedArrayFileReaderImpl(testFile.getAbsolutePath(), StandardCharsets.UTF_16);
+    }
+
+    @Test(expected = FileReadException.class)
+    public void testMappedReader_MissingFileThrows() throws Exception {
+        new MappedArrayFileReaderImpl(testFile.getAbsolutePath() + ".missing").readValidLinesFromFile();
+    }
+
+    @Test
+    public void testParallelReader_KeepsLineOrderAndDiagnostics() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            content.append(i % 7 == 0 ? "   " : "word" + (char) ('a' + i % 26) + ", line" + i).append(i % 3 == 0 ? "\r\n" : "\n");
+        }
+        content.append("тail");
+        writeToTestFile(content.toString());
+
+        List<String> expected = arrayFileReader.readValidLinesFromFile();
+        ParallelArrayFileReaderImpl parallelReader =
+                new ParallelArrayFileReaderImpl(testFile.getAbsolutePath(), 64, pool);
+
+        assertEquals(expected, parallelReader.readValidLinesFromFile());
+        assertEquals(arrayFileReader.getLastReport().getTotal(), parallelReader.getLastReport().getTotal());
+        assertEquals(arrayFileReader.getLastReport().getDiagnostics(), parallelReader.getLastReport().getDiagnostics());
+
+        List<ValidatedWords> words = parallelReader.readValidatedWordsFromFile();
+        assertEquals(expected.size(), words.size());
+        assertEquals("wordb", words.get(0).get(0));
+    }
+
+    @Test
+    public void testStreamValidLines_IsLazyAndMatchesList() throws Exception {
+        writeToTestFile("first\n\n  second , line  \nthird");
+
+        try (Stream<String> lines = arrayFileReader.streamValidLines()) {
+            assertEquals(Arrays.asList("first", "second , line", "third"), lines.collect(Collectors.toList()));
+        }
+        assertEquals(1, arrayFileReader.getLastReport().count(ReasonCode.BLANK_LINE));
+
+        try (Stream<String> lines = arrayFileReader.streamValidLines()) {
+            assertEquals("first", lines.findFirst().orElseThrow());
+        }
+        assertEquals(3, arrayFileReader.readValidLinesFromFile().size());
+    }
+
+    @Test
+    public void testIterateAndForEachValidLine() throws Exception {
+        writeToTestFile("one\ntwo\n\nthree\n");
+        List<String> iterated = new ArrayList<>();
+        try (LineIterator iterator = arrayFileReader.iterateValidLines()) {
+            while (iterator.hasNext()) {
+                iterated.add(iterator.next());
+            }
+        }
+
+        List<String> visited = new ArrayList<>();
+        new MappedArrayFileReaderImpl(testFile.getAbsolutePath(), 4).forEachValidLine(visited::add);
+
+        assertEquals(Arrays.asList("one", "two", "three"), iterated);
+        assertEquals(iterated, visited);
+    }
+
+    @Test
+    public void testMappedAndParallelReaders_StreamLazily() throws Exception {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            content.append(i % 5 == 0 ? "" : "line " + (char) ('a' + i % 26)).append('\n');
+        }
+        writeToTestFile(content.toString());
+        List<String> expected = arrayFileReader.readValidLinesFromFile();
+        String path = testFile.getAbsolutePath();
+
+        MappedArrayFileReaderImpl mappedReader = new MappedArrayFileReaderImpl(path, 16);
+        try (Stream<String> lines = mappedReader.streamValidLines()) {
+            assertEquals(expected, lines.collect(Collectors.toList()));
+        }
+        assertEquals(60, mappedReader.getLastReport().count(ReasonCode.BLANK_LINE));
+        try (Stream<String> lines = mappedReader.streamValidLines()) {
+            assertEquals(expected.get(0), lines.findFirst().orElseThrow());
+        }
+
+        ParallelArrayFileReaderImpl parallelReader = new ParallelArrayFileReaderImpl(path, 64, pool);
+        try (Stream<String> lines = parallelReader.streamValidLines()) {
+            assertEquals(expected, lines.collect(Collectors.toList()));
+        }
+        assertEquals(arrayFileReader.getLastReport().getDiagnostics(), parallelReader.getLastReport().getDiagnostics());
+        try (LineIterator iterator = parallelReader.iterateValidLines()) {
+            assertEquals(expected.get(0), iterator.next());
+        }
+
+        assertNull("Streaming must not fill the cache", readCache(mappedReader));
+        assertNull("Streaming must not fill the cache", readCache(parallelReader));
+    }
+
+    private Object readCache(Object reader) throws Exception {
+        Field cacheField = reader.getClass().getDeclaredField("cachedLines");
+        cacheField.setAccessible(true);
+        return cacheField.get(reader);
+    }
+
+    @Test(expected = FileReadException.class)
+    public void testStreamValidLines_MissingFileThrows() throws Exception {
+        new ArrayFileReaderImpl(testFile.getAbsolutePath() + ".missing").streamValidLines();
+    }
+
+    @Test
+    public void testTailReader_ReturnsOnlyAppendedLines() throws Exception {
+        writeToTestFile("first\nsecond\n");
+        try (TailArrayFileReaderImpl tailReader = new TailArrayFileReaderImpl(testFile.getAbsolutePath())) {
+            assertEquals(Arrays.asList("first", "second"), tailReader.poll());
+            assertTrue(tailReader.poll().isEmpty());
+
+            appendToTestFile("third\r");
+            assertEquals(Arrays.asList("third"), tailReader.poll());
+
+            appendToTestFile("\nfour");
+            assertTrue("Unterminated line is held back", tailReader.poll().isEmpty());
+
+            appendToTestFile("th\n\n");
+            assertEquals(Arrays.asList("fourth"), tailReader.poll());
+            assertEquals(1, tailReader.getLastReport().count(ReasonCode.BLANK_LINE));
+            assertEquals(Arrays.asList("first", "second", "third", "fourth"), tailReader.readValidLinesFromFile());
+            assertEquals(testFile.length(), tailReader.getOffset());
+        }
+    }
+
+    @Test
+    public void testTailReader_HandlesTruncationAndRotation() throws Exception {
+        writeToTestFile("old one\nold two\n");
+        File rotated = new File(testFile.getAbsolutePath() + ".1");
+        rotated.deleteOnExit();
+        try (TailArrayFileReaderImpl tailReader = new TailArrayFileReaderImpl(testFile.getAbsolutePath())) {
+            tailReader.poll();
+
+            writeToTestFile("new\n");
+            assertEquals(Arrays.asList("new"), tailReader.poll());
+            assertEquals(Arrays.asList("new"), tailReader.readValidLinesFromFile());
+
+            appendToTestFile("unread tail");
+            assertTrue(testFile.renameTo(rotated));
+            writeToTestFile("fresh\n");
+
+            assertEquals(Arrays.asList("unread tail", "fresh"), tailReader.poll());
+            assertEquals(Arrays.asList("fresh"), tailReader.readValidLinesFromFile());
+        } finally {
+            rotated.delete();
+        }
+    }
+
+    @Test
+    public void testTailReader_DetectsInPlaceRewriteThatDoesNotShrink() throws Exception {
+        writeToTestFile("old one\nold two\n");
+        try (TailArrayFileReaderImpl tailReader = new TailArrayFileReaderImpl(testFile.getAbsolutePath())) {
+            tailReader.poll();
+            appendToTestFile("appended\n");
+            assertEquals(Arrays.asList("appended"), tailReader.poll());
+
+            long modified = testFile.lastModified();
+            writeToTestFile("rewritten first line\nrewritten second\n");
+            modified += TimeUnit.SECONDS.toMillis(10);
+            Files.setLastModifiedTime(testFile.toPath(), FileTime.fromMillis(modified));
+            assertEquals(Arrays.asList("rewritten first line", "rewritten second"), tailReader.poll());
+
+            long previousSize = testFile.length();
+            writeToTestFile("same size first line\nrewritten thirds\n");
+            assertEquals(previousSize, testFile.length());
+            modified += TimeUnit.SECONDS.toMillis(10);
+            Files.setLastModifiedTime(testFile.toPath(), FileTime.fromMillis(modified));
+            assertEquals(Arrays.asList("same size first line", "rewritten thirds"), tailReader.poll());
+            assertEquals(Arrays.asList("same size first line", "rewritten thirds"),
+                    tailReader.readValidLinesFromFile());
+        }
+    }
+
+    @Test
+    public void testTailReader_DecodesWithExplicitCharset() throws Exception {
+        Charset charset = Charset.forName("windows-1251");
+        Files.write(testFile.toPath(), "ёлка, мир\n".getBytes(charset));
+        try (TailArrayFileReaderImpl tailReader = new TailArrayFileReaderImpl(testFile.getAbsolutePath(), 50, charset)) {
+            assertEquals(Arrays.asList("ёлка, мир"), tailReader.poll());
+        }
+    }
+
+    @Test
+    public void testTailReader_FollowDeliversAppendedLines() throws Exception {
+        writeToTestFile("start\n");
+        BlockingQueue<String> delivered = new LinkedBlockingQueue<>();
+        try (TailArrayFileReaderImpl tailReader = new TailArrayFileReaderImpl(testFile.getAbsolutePath(), 50)) {
+            Closeable follower = tailReader.follow(delivered::add);
+            try {
+                assertEquals("start", delivered.poll(5, TimeUnit.SECONDS));
+
+                appendToTestFile("appended\n");
+                assertEquals("appended", delivered.poll(5, TimeUnit.SECONDS));
+            } finally {
+                follower.close();
+            }
+        }
+    }
+
+    private void appendToTestFile(String content) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(testFile, true))) {
+            writer.write(content);
+        }
+    }
+
+    @Test
+    public void testReadValidLinesFromFile_DetectsGzipInput() throws Exception {
+        String content = "apple,banana\n\nяблоко груша\r\nlast";
+        writeToTestFile(content);
+        List<String> expected = arrayFileReader.readValidLinesFromFile();
+
+        File compressed = File.createTempFile("test_data", ".txt.gz");
+        compressed.deleteOnExit();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(new FileOutputStream(compressed)))) {
+            writer.write(content);
+        }
+
+        ArrayFileReaderImpl gzipReader = new ArrayFileReaderImpl(compressed.getAbsolutePath());
+        assertEquals(expected, gzipReader.readValidLinesFromFile());
+        try (Stream<String> lines = new ArrayFileReaderImpl(compressed.getAbsolutePath()).streamValidLines()) {
+            assertEquals(expected, lines.collect(Collectors.toList()));
+        }
+        compressed.delete();
+    }
+}
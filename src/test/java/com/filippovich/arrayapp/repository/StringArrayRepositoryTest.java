@@ -1,15 +1,22 @@
 package test.java.com.filippovich.arrayapp.repository;
 
 import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.factory.CanonicalArrayIndex;
 import com.filippovich.arrayapp.observer.Observer;
+import com.filippovich.arrayapp.parser.ValidatedWords;
+import com.filippovich.arrayapp.parser.impl.ArrayParserImpl;
 import com.filippovich.arrayapp.repository.Specification;
 import com.filippovich.arrayapp.repository.impl.StringArrayRepositoryImpl;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -42,6 +49,20 @@ public class StringArrayRepositoryTest {
         }
     }
 
+    private static class BatchTestObserver extends TestObserver {
+        private int batchCount = 0;
+        private int lastBatchSize = 0;
+        private String lastBatchEventType;
+
+        @Override
+        public void handleBatchEvent(List<StringArray> arrays, String eventType) {
+            batchCount++;
+            lastBatchSize = arrays.size();
+            lastBatchEventType = eventType;
+            super.handleBatchEvent(arrays, eventType);
+        }
+    }
+
     private static class TestSpecification implements Specification {
         private final int minLength;
 
@@ -348,6 +369,221 @@ public class StringArrayRepositoryTest {
         assertEquals(1, testObserver.notificationCount);
     }
 
+    @Test
+    public void testAddAllNotifiesOnce() {
+        BatchTestObserver batchObserver = new BatchTestObserver();
+        repository.addObserver(batchObserver);
+
+        repository.addAll(Arrays.asList(testArray1, null, testArray2));
+
+        assertEquals(2, repository.getAll().size());
+        assertEquals(1, batchObserver.batchCount);
+        assertEquals(2, batchObserver.lastBatchSize);
+        assertEquals(2, testObserver.notificationCount);
+        assertEquals("ADD", testObserver.lastEventType);
+    }
+
+    @Test
+    public void testClearSendsOneBatchEvent() {
+        BatchTestObserver batchObserver = new BatchTestObserver();
+        repository.add(testArray1);
+        repository.add(testArray2);
+        repository.addObserver(batchObserver);
+
+        repository.clear();
+
+        assertEquals(1, batchObserver.batchCount);
+        assertEquals(2, batchObserver.lastBatchSize);
+        assertEquals("REMOVE", batchObserver.lastBatchEventType);
+    }
+
+    @Test
+    public void testFactoryCreateAllPreservesOrder() {
+        BatchTestObserver batchObserver = new BatchTestObserver();
+        repository.addObserver(batchObserver);
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lines.add(new String[]{"word" + letters(i), "other"});
+        }
+
+        List<StringArray> created = ArrayFactory.createAll(lines);
+
+        assertEquals(500, created.size());
+        for (int i = 0; i < created.size(); i++) {
+            assertEquals("word" + letters(i), created.get(i).get(0));
+        }
+        assertEquals(500, repository.getAll().size());
+        assertEquals(1, batchObserver.batchCount);
+    }
+
+    @Test
+    public void testFactoryRejectsInvalidExternalInput() {
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createFromArray(new String[]{"!!"}));
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createFromArray(new String[0]));
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createFromArray(null));
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createCanonical(new String[]{"ok", "no1"}));
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createTransient(new String[]{"ok", ""}));
+
+        assertTrue(repository.getAll().isEmpty());
+        assertEquals(0, testObserver.notificationCount);
+    }
+
+    @Test
+    public void testFactoryCreateAllCanonicalSkipsInvalidRows() {
+        ArrayFactory.getCanonicalIndex().clear();
+
+        List<StringArray> created = ArrayFactory.createAllCanonical(Arrays.asList(
+                new String[]{"kept"}, new String[]{"bad?"}, new String[0], new String[]{"kept"}));
+
+        assertEquals(2, created.size());
+        assertSame(created.get(0), created.get(1));
+        assertEquals(1, repository.getAll().size());
+    }
+
+    @Test
+    public void testFactoryCreateAllSkipsInvalidRows() {
+        BatchTestObserver batchObserver = new BatchTestObserver();
+        repository.addObserver(batchObserver);
+        List<String[]> lines = Arrays.asList(
+                new String[]{"first"},
+                new String[]{"bad!"},
+                new String[0],
+                null,
+                new String[]{"second", " padded "},
+                new String[]{"word", ""});
+
+        List<StringArray> created = ArrayFactory.createAll(lines);
+
+        assertEquals(2, created.size());
+        assertEquals("first", created.get(0).get(0));
+        assertEquals("second", created.get(1).get(0));
+        assertEquals(2, repository.getAll().size());
+        assertEquals(1, batchObserver.batchCount);
+        assertEquals(2, batchObserver.lastBatchSize);
+    }
+
+    @Test
+    public void testFactoryCreateAllWithOnlyInvalidRowsStoresNothing() {
+        BatchTestObserver batchObserver = new BatchTestObserver();
+        repository.addObserver(batchObserver);
+
+        List<StringArray> created = ArrayFactory.createAll(Arrays.asList(new String[]{"123"}, new String[0]));
+
+        assertTrue(created.isEmpty());
+        assertTrue(repository.getAll().isEmpty());
+        assertEquals(0, batchObserver.batchCount);
+    }
+
+    @Test
+    public void testFactoryCreateCanonicalReusesIdenticalContent() throws InvalidArrayException {
+        CanonicalArrayIndex index = ArrayFactory.getCanonicalIndex();
+        index.clear();
+        index.resetStatistics();
+
+        StringArray first = ArrayFactory.createCanonical(new String[]{"same", "words"});
+        StringArray second = ArrayFactory.createCanonical(new String[]{"same", "words"});
+        StringArray different = ArrayFactory.createCanonical(new String[]{"other", "words"});
+
+        assertSame(first, second);
+        assertNotSame(first, different);
+        assertEquals(2, repository.getAll().size());
+        assertEquals(1, index.getHits());
+        assertEquals(2, index.getMisses());
+    }
+
+    @Test
+    public void testFactoryCreateCanonicalKeepsRequestedStorageMode() throws InvalidArrayException {
+        ArrayFactory.getCanonicalIndex().clear();
+
+        StringArray onHeap = ArrayFactory.createCanonical(new String[]{"mode", "words"});
+        StringArray offHeap = ArrayFactory.createCanonical(new String[]{"mode", "words"}, StorageMode.OFF_HEAP);
+        StringArray offHeapAgain = ArrayFactory.createCanonical(new String[]{"mode", "words"}, StorageMode.OFF_HEAP);
+
+        assertNotSame(onHeap, offHeap);
+        assertSame(offHeap, offHeapAgain);
+        assertEquals(StorageMode.ARRAY, onHeap.getStorageMode());
+        assertEquals(StorageMode.OFF_HEAP, offHeap.getStorageMode());
+        assertEquals(2, repository.getAll().size());
+    }
+
+    @Test
+    public void testFactoryCreateCanonicalAfterRemovalCreatesNewArray() throws InvalidArrayException {
+        ArrayFactory.getCanonicalIndex().clear();
+        StringArray first = ArrayFactory.createCanonical(new String[]{"removed"});
+
+        repository.remove(first);
+        StringArray second = ArrayFactory.createCanonical(new String[]{"removed"});
+
+        assertNotSame(first, second);
+        assertEquals(1, repository.getAll().size());
+    }
+
+    @Test
+    public void testFactoryCreateAllCanonicalAddsDistinctArraysOnce() {
+        ArrayFactory.getCanonicalIndex().clear();
+        BatchTestObserver batchObserver = new BatchTestObserver();
+        repository.addObserver(batchObserver);
+        List<String[]> lines = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            lines.add(new String[]{"word" + letters(i % 3)});
+        }
+
+        List<StringArray> created = ArrayFactory.createAllCanonical(lines);
+
+        assertEquals(300, created.size());
+        assertSame(created.get(0), created.get(3));
+        assertEquals("wordc", created.get(299).get(0));
+        assertEquals(3, repository.getAll().size());
+        assertEquals(1, batchObserver.batchCount);
+        assertEquals(3, batchObserver.lastBatchSize);
+    }
+
+    @Test
+    public void testFactoryCreatesFromParserValidatedWords() throws InvalidArrayException {
+        ValidatedWords parsed = new ArrayParserImpl().parseValidated("alpha, beta; bad1 гамма");
+
+        StringArray created = ArrayFactory.createFromValidated(parsed);
+        List<StringArray> batch = ArrayFactory.createAllValidated(Arrays.asList(parsed, parsed));
+
+        assertArrayEquals(new String[]{"alpha", "beta", "гамма"}, created.getArray());
+        assertEquals(2, batch.size());
+        assertEquals(3, repository.getAll().size());
+    }
+
+    @Test
+    public void testFactoryRejectsEmptyValidatedWords() throws InvalidArrayException {
+        ArrayParserImpl parser = new ArrayParserImpl();
+        ValidatedWords empty = parser.parseValidated("123 !!!");
+        ValidatedWords parsed = parser.parseValidated("alpha beta");
+
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createFromValidated(empty));
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createFromValidated(null));
+        List<StringArray> batch = ArrayFactory.createAllValidated(Arrays.asList(empty, parsed, null));
+
+        assertEquals(1, batch.size());
+        assertArrayEquals(new String[]{"alpha", "beta"}, batch.get(0).getArray());
+        assertEquals(1, repository.getAll().size());
+    }
+
+    @Test
+    public void testValidatedWordsCheckRejectsInvalidExternalInput() {
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl();
+
+        assertFalse(ValidatedWords.check(new String[]{"ok", "bad1"}, validator).isPresent());
+        assertFalse(ValidatedWords.check(new String[]{"ok", null}, validator).isPresent());
+        ValidatedWords checked = ValidatedWords.check(new String[]{" ok ", "fine"}, validator).orElseThrow();
+        assertEquals("ok", checked.get(0));
+        assertEquals(2, checked.size());
+    }
+
+    private static String letters(int number) {
+        StringBuilder word = new StringBuilder();
+        for (char digit : Integer.toString(number).toCharArray()) {
+            word.append((char) ('a' + digit - '0'));
+        }
+        return word.toString();
+    }
+
     private boolean containsArrayById(List<StringArray> arrays, UUID id) {
         return arrays.stream()
                 .anyMatch(array -> array != null && array.getId() != null && array.getId().equals(id));
@@ -21,7 +21,7 @@ public class ArrayServiceTest {
         arrayService = new ArrayServiceImpl();
         String[] words = {"apple", "banana", "cherry", "date", "elephant", "fig", "grape"};
         testArray = ArrayFactory.createFromArray(words);
-        emptyArray = ArrayFactory.createFromArray(new String[0]);
+        emptyArray = new StringArray(new String[0]);
         singleElementArray = ArrayFactory.createFromArray(new String[]{"single"});
     }
 
@@ -174,7 +174,7 @@ public class ArrayServiceTest {
 
     @Test
     public void testEdgeCases() throws InvalidArrayException {
-        StringArray arrayWithEmptyStrings = ArrayFactory.createFromArray(new String[]{"", "word", ""});
+        StringArray arrayWithEmptyStrings = new StringArray(new String[]{"", "word", ""});
 
         assertEquals("", arrayService.findShortestWord(arrayWithEmptyStrings));
         assertEquals("word", arrayService.findLongestWord(arrayWithEmptyStrings));
@@ -200,7 +200,7 @@ public class ArrayServiceTest {
 
     @Test
     public void testArrayWithSpecialCharacters() throws InvalidArrayException {
-        StringArray specialArray = ArrayFactory.createFromArray(new String[]{"word!", "test123", "hello-world"});
+        StringArray specialArray = new StringArray(new String[]{"word!", "test123", "hello-world"});
 
         assertEquals("word!", arrayService.findShortestWord(specialArray));
         assertEquals("hello-world", arrayService.findLongestWord(specialArray));
@@ -216,7 +216,7 @@ public class ArrayServiceTest {
         for (int i = 0; i < largeArray.length; i++) {
             largeArray[i] = "word" + i;
         }
-        StringArray largeStringArray = ArrayFactory.createFromArray(largeArray);
+        StringArray largeStringArray = new StringArray(largeArray);
 
         assertEquals("word0", arrayService.findFirstAlphabetically(largeStringArray));
         assertEquals("word999", arrayService.findLastAlphabetically(largeStringArray));
@@ -22,7 +22,7 @@ public class ArrayStreamServiceTest {
         arrayService = new ArrayStreamService();
         String[] words = {"apple", "banana", "cherry", "date", "elephant", "fig", "grape"};
         testArray = ArrayFactory.createFromArray(words);
-        emptyArray = ArrayFactory.createFromArray(new String[0]);
+        emptyArray = new StringArray(new String[0]);
         singleElementArray = ArrayFactory.createFromArray(new String[]{"single"});
     }
 
@@ -175,7 +175,7 @@ public class ArrayStreamServiceTest {
 
     @Test
     public void testEdgeCases() throws InvalidArrayException {
-        StringArray arrayWithEmptyStrings = ArrayFactory.createFromArray(new String[]{"", "word", ""});
+        StringArray arrayWithEmptyStrings = new StringArray(new String[]{"", "word", ""});
 
         assertEquals("", arrayService.findShortestWord(arrayWithEmptyStrings));
         assertEquals("word", arrayService.findLongestWord(arrayWithEmptyStrings));
@@ -201,7 +201,7 @@ public class ArrayStreamServiceTest {
 
     @Test
     public void testArrayWithSpecialCharacters() throws InvalidArrayException {
-        StringArray specialArray = ArrayFactory.createFromArray(new String[]{"word!", "test123", "hello-world"});
+        StringArray specialArray = new StringArray(new String[]{"word!", "test123", "hello-world"});
 
         assertEquals("word!", arrayService.findShortestWord(specialArray));
         assertEquals("hello-world", arrayService.findLongestWord(specialArray));
@@ -217,7 +217,7 @@ public class ArrayStreamServiceTest {
         for (int i = 0; i < largeArray.length; i++) {
             largeArray[i] = "word" + i;
         }
-        StringArray largeStringArray = ArrayFactory.createFromArray(largeArray);
+        StringArray largeStringArray = new StringArray(largeArray);
 
         assertEquals("word0", arrayService.findFirstAlphabetically(largeStringArray));
         assertEquals("word999", arrayService.findLastAlphabetically(largeStringArray));
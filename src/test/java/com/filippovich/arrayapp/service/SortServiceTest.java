@@ -3,6 +3,8 @@ package test.java.com.filippovich.arrayapp.service;
 import com.filippovich.arrayapp.entity.StringArray;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.factory.ResultMode;
+import com.filippovich.arrayapp.repository.impl.StringArrayRepositoryImpl;
 import com.filippovich.arrayapp.service.impl.SortServiceImpl;
 import org.junit.Before;
 import org.junit.Test;
@@ -30,7 +32,7 @@ public class SortServiceTest {
                 "elephant", "cat", "banana", "a", "dog", "apple"
         });
 
-        emptyArray = ArrayFactory.createFromArray(new String[0]);
+        emptyArray = new StringArray(new String[0]);
         singleElementArray = ArrayFactory.createFromArray(new String[]{"single"});
 
         sortedArray = ArrayFactory.createFromArray(new String[]{
@@ -163,7 +165,7 @@ public class SortServiceTest {
         assertArrayEquals(new String[]{"apple", "Banana", "cat", "Zebra"},
                 result.getArray());
 
-        StringArray specialArray = ArrayFactory.createFromArray(new String[]{
+        StringArray specialArray = new StringArray(new String[]{
                 "word!", "test", "hello", "123number"
         });
         result = sortService.sortAlphabetically(specialArray);
@@ -222,7 +224,7 @@ public class SortServiceTest {
         for (int i = 0; i < largeArray.length; i++) {
             largeArray[i] = "word" + (99 - i);
         }
-        StringArray largeStringArray = ArrayFactory.createFromArray(largeArray);
+        StringArray largeStringArray = new StringArray(largeArray);
 
         StringArray bubbleResult = sortService.sortByLengthBubble(largeStringArray);
         StringArray selectionResult = sortService.sortByLengthSelection(largeStringArray);
@@ -253,7 +255,7 @@ public class SortServiceTest {
     @Test
     public void testEdgeCases() throws InvalidArrayException {
 
-        StringArray arrayWithEmpty = ArrayFactory.createFromArray(new String[]{
+        StringArray arrayWithEmpty = new StringArray(new String[]{
                 "hello", "", "world", "a"
         });
 
@@ -281,7 +283,7 @@ public class SortServiceTest {
 
     @Test
     public void testSortWithSpecialCharactersAndNumbers() throws InvalidArrayException {
-        StringArray mixedArray = ArrayFactory.createFromArray(new String[]{
+        StringArray mixedArray = new StringArray(new String[]{
                 "123", "!@#", "abc", "ABC", "test1", "test2"
         });
 
@@ -292,7 +294,7 @@ public class SortServiceTest {
 
     @Test
     public void testSortEmptyStrings() throws InvalidArrayException {
-        StringArray emptyStringsArray = ArrayFactory.createFromArray(new String[]{
+        StringArray emptyStringsArray = new StringArray(new String[]{
                 "", "", ""
         });
 
@@ -312,4 +314,20 @@ public class SortServiceTest {
         StringArray result = sortService.sortAlphabetically(singleCharArray);
         assertArrayEquals(new String[]{"a", "b", "c", "m", "z"}, result.getArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testTransientResultsAreNotPersisted() throws InvalidArrayException {
+        StringArrayRepositoryImpl repository = StringArrayRepositoryImpl.getInstance();
+        SortServiceImpl transientService = new SortServiceImpl(ResultMode.TRANSIENT);
+        int sizeBefore = repository.getAll().size();
+
+        StringArray first = transientService.sortByLengthQuick(testArray);
+        StringArray second = transientService.sortAlphabetically(testArray);
+
+        assertArrayEquals(sortService.sortByLengthQuick(testArray).getArray(), first.getArray());
+        assertEquals(sizeBefore + 1, repository.getAll().size());
+
+        ArrayFactory.persistAll(Arrays.asList(first, second));
+        assertEquals(sizeBefore + 3, repository.getAll().size());
+    }
+}
@@ -1,9 +1,13 @@
 package test.java.com.filippovich.arrayapp.service;
 
 import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
 import com.filippovich.arrayapp.exception.InvalidArrayException;
 import com.filippovich.arrayapp.factory.ArrayFactory;
+import com.filippovich.arrayapp.entity.storage.StorageMode;
+import com.filippovich.arrayapp.factory.ResultMode;
 import com.filippovich.arrayapp.service.impl.SortStreamService;
+import com.filippovich.arrayapp.validation.LexicalProfile;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -30,7 +34,7 @@ public class SortStreamServiceTest {
                 "elephant", "cat", "banana", "a", "dog", "apple"
         });
 
-        emptyArray = ArrayFactory.createFromArray(new String[0]);
+        emptyArray = new StringArray(new String[0]);
         singleElementArray = ArrayFactory.createFromArray(new String[]{"single"});
 
         sortedArray = ArrayFactory.createFromArray(new String[]{
@@ -163,7 +167,7 @@ public class SortStreamServiceTest {
         assertArrayEquals(new String[]{"apple", "Banana", "cat", "Zebra"},
                 result.getArray());
 
-        StringArray specialArray = ArrayFactory.createFromArray(new String[]{
+        StringArray specialArray = new StringArray(new String[]{
                 "word!", "test", "hello", "123number"
         });
         result = sortService.sortAlphabetically(specialArray);
@@ -222,7 +226,7 @@ public class SortStreamServiceTest {
         for (int i = 0; i < largeArray.length; i++) {
             largeArray[i] = "word" + (99 - i);
         }
-        StringArray largeStringArray = ArrayFactory.createFromArray(largeArray);
+        StringArray largeStringArray = new StringArray(largeArray);
 
         StringArray bubbleResult = sortService.sortByLengthBubble(largeStringArray);
         StringArray selectionResult = sortService.sortByLengthSelection(largeStringArray);
@@ -253,7 +257,7 @@ public class SortStreamServiceTest {
     @Test
     public void testEdgeCases() throws InvalidArrayException {
 
-        StringArray arrayWithEmpty = ArrayFactory.createFromArray(new String[]{
+        StringArray arrayWithEmpty = new StringArray(new String[]{
                 "hello", "", "world", "a"
         });
 
@@ -281,7 +285,7 @@ public class SortStreamServiceTest {
 
     @Test
     public void testSortWithSpecialCharactersAndNumbers() throws InvalidArrayException {
-        StringArray mixedArray = ArrayFactory.createFromArray(new String[]{
+        StringArray mixedArray = new StringArray(new String[]{
                 "123", "!@#", "abc", "ABC", "test1", "test2"
         });
 
@@ -292,7 +296,7 @@ public class SortStreamServiceTest {
 
     @Test
     public void testSortEmptyStrings() throws InvalidArrayException {
-        StringArray emptyStringsArray = ArrayFactory.createFromArray(new String[]{
+        StringArray emptyStringsArray = new StringArray(new String[]{
                 "", "", ""
         });
 
@@ -312,4 +316,40 @@ public class SortStreamServiceTest {
         StringArray result = sortService.sortAlphabetically(singleCharArray);
         assertArrayEquals(new String[]{"a", "b", "c", "m", "z"}, result.getArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSortByVowelCountUsesLexicalProfile() throws InvalidArrayException {
+        StringArray words = ArrayFactory.createFromArray(new String[]{"Яблоко", "sky", "ОКНО", "tree"});
+
+        StringArray byDefault = sortService.sortByVowelCount(words);
+        assertArrayEquals(new String[]{"sky", "tree", "ОКНО", "Яблоко"}, byDefault.getArray());
+
+        LexicalProfile withY = LexicalProfile.builder("latin-y")
+                .letters('a', 'z')
+                .vowels("aeiouy")
+                .build();
+        StringArray byProfile = new SortStreamService(ResultMode.TRANSIENT, withY).sortByConsonantCount(words);
+        assertArrayEquals(new String[]{"ОКНО", "Яблоко", "sky", "tree"}, byProfile.getArray());
+    }
+
+    @Test
+    public void testConstructorRejectsNullLexicalProfile() {
+        assertThrows(IllegalArgumentException.class, () -> new SortStreamService(ResultMode.TRANSIENT, null));
+    }
+
+    @Test
+    public void testTenantProfileWorksFromFactoryToSort() throws InvalidArrayException {
+        LexicalProfile greek = LexicalProfile.builder("greek")
+                .letters('α', 'ω')
+                .delimiters(" ,")
+                .vowels("αεηιουω")
+                .build();
+        String[] words = {"αει", "λογος", "σκψ"};
+
+        assertThrows(InvalidArrayException.class, () -> ArrayFactory.createFromArray(words));
+        StringArray tenantArray = ArrayFactory.createFromArray(words, StorageMode.ARRAY, greek);
+
+        StringArray result = new SortStreamService(ResultMode.TRANSIENT, greek).sortByVowelCount(tenantArray);
+        assertArrayEquals(new String[]{"σκψ", "λογος", "αει"}, result.getArray());
+    }
+}
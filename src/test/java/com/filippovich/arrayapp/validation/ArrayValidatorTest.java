@@ -0,0 +1,99 @@
+package test.java.com.filippovich.arrayapp.validation;
+
+import com.filippovich.arrayapp.entity.StringArray;
+import com.filippovich.arrayapp.parser.impl.ArrayParserImpl;
+import com.filippovich.arrayapp.validation.ArrayValidator;
+import com.filippovich.arrayapp.validation.LexicalProfile;
+import com.filippovich.arrayapp.validation.impl.ArrayValidatorImpl;
+import com.filippovich.arrayapp.validation.impl.TableArrayValidatorImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ArrayValidatorTest {
+
+    private static final String[] SAMPLES = {
+            "", " ", "\t", "word", "Word", "слово", "Слово", "mixedСлово", "ёж", "Ёж",
+            "word1", "test_word", "hello-world", "a,b", " padded ", "\u0001word\u0001",
+            "wo\u0001rd", "word ", " ", "ß", "éclair", "apple, banana; cherry",
+            "123, 456", ",,,", "---", " ; ,", "invalid@line", "ok@, fine", "яблоко груша",
+            "\u001Fword", "tab\tseparated", "line\nbreak", "a", "Z", "я", "А"
+    };
+
+    private ArrayValidator regexValidator;
+    private ArrayValidator tableValidator;
+
+    @Before
+    public void setUp() {
+        regexValidator = new ArrayValidatorImpl();
+        tableValidator = new TableArrayValidatorImpl();
+    }
+
+    @Test
+    public void testIsValidWordStringMatchesRegexValidator() {
+        for (String sample : SAMPLES) {
+            assertEquals("Word: '" + sample + "'",
+                    regexValidator.isValidWordString(sample), tableValidator.isValidWordString(sample));
+        }
+        assertFalse(tableValidator.isValidWordString(null));
+    }
+
+    @Test
+    public void testValidateLineFormatMatchesRegexValidator() {
+        for (String sample : SAMPLES) {
+            assertEquals("Line: '" + sample + "'",
+                    regexValidator.validateLineFormat(sample), tableValidator.validateLineFormat(sample));
+        }
+        assertFalse(tableValidator.validateLineFormat(null));
+    }
+
+    @Test
+    public void testValidateArrayMatchesRegexValidator() {
+        for (String sample : SAMPLES) {
+            String[] array = {"valid", sample};
+            assertEquals("Element: '" + sample + "'",
+                    regexValidator.validateArray(array), tableValidator.validateArray(array));
+            assertEquals("Element: '" + sample + "'",
+                    regexValidator.validateArray(new StringArray(array)),
+                    tableValidator.validateArray(new StringArray(array)));
+        }
+        assertFalse(tableValidator.validateArray(new String[0]));
+        assertFalse(tableValidator.validateArray(new String[]{"valid", null}));
+        assertFalse(tableValidator.validateArray((String[]) null));
+    }
+
+    @Test
+    public void testCustomLexicalProfileDrivesValidatorAndParser() {
+        LexicalProfile profile = LexicalProfile.builder("latin-digits")
+                .letters('a', 'z')
+                .letters('0', '9')
+                .delimiters("|")
+                .build();
+        TableArrayValidatorImpl validator = new TableArrayValidatorImpl(profile);
+
+        assertTrue(validator.isValidWordString("abc123"));
+        assertFalse(validator.isValidWordString("Abc"));
+        assertTrue(validator.validateLineFormat("!!|word1"));
+        assertFalse(validator.validateLineFormat("no,commas"));
+        assertArrayEquals(new String[]{"word1", "x2"},
+                new ArrayParserImpl(profile).parseStringToArray("word1| x2 |Bad|a,b"));
+    }
+
+    @Test
+    public void testLexicalProfileFoldsCaseForVowels() {
+        LexicalProfile profile = LexicalProfile.DEFAULT;
+
+        assertTrue(profile.isVowel('Ё'));
+        assertTrue(profile.isVowel('E'));
+        assertFalse(profile.isLetter('ё'));
+        assertTrue(profile.isConsonant('Б'));
+        assertFalse(profile.isConsonant('1'));
+        assertEquals('я', profile.fold('Я'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLexicalProfileRejectsLetterDelimiterOverlap() {
+        LexicalProfile.builder("broken").letters('a', 'z').delimiters("a").build();
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -212,4 +213,19 @@ class ArrayWarehouseTest {
         assertTrue(toString.contains("count=10"));
         assertTrue(toString.startsWith("ArrayStatisticsImpl["));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHandleBatchEvent() {
+        arrayWarehouse.handleBatchEvent(List.of(testArray, emptyArray, singleElementArray), "ADD");
+
+        assertEquals(14, arrayWarehouse.getStatistics(testArray.getId()).get().getTotalCharacters());
+        assertEquals(0, arrayWarehouse.getStatistics(emptyArray.getId()).get().getWordCount());
+        assertEquals(6, arrayWarehouse.getStatistics(singleElementArray.getId()).get().getMaxLength());
+
+        arrayWarehouse.handleBatchEvent(List.of(testArray, emptyArray), "REMOVE");
+
+        assertFalse(arrayWarehouse.getStatistics(testArray.getId()).isPresent());
+        assertFalse(arrayWarehouse.getStatistics(emptyArray.getId()).isPresent());
+        assertTrue(arrayWarehouse.getStatistics(singleElementArray.getId()).isPresent());
+    }
+}